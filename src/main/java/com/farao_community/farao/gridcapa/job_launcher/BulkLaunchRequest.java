@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ParameterDto;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Timestamps to launch with the same parameters: either listed, or every step of the [from, to) range, one hour by default.
+ */
+public record BulkLaunchRequest(List<String> timestamps, OffsetDateTime from, OffsetDateTime to, Duration step, List<ParameterDto> parameters) {
+    private static final Duration DEFAULT_STEP = Duration.ofHours(1);
+
+    boolean isRange() {
+        return from != null || to != null;
+    }
+
+    Duration stepOrDefault() {
+        return step != null ? step : DEFAULT_STEP;
+    }
+}
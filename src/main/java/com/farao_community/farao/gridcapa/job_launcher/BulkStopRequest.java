@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.service.BulkStopService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Runs to stop: either listed, or the latest runs of the PENDING and RUNNING tasks of a business date.
+ */
+public record BulkStopRequest(List<BulkStopService.RunToStop> runs, LocalDate businessDate) {
+}
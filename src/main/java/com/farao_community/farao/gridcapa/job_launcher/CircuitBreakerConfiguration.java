@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Circuit breakers protecting task-manager and interruption-server calls, configured from job-launcher.circuit-breaker.
+ * While a circuit is open, calls to the corresponding service fail immediately with a
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException} instead of going through the retry schedule.
+ * Client errors are ignored, see {@link #isClientError(Throwable)}.
+ */
+@Configuration
+public class CircuitBreakerConfiguration {
+    public static final String TASK_MANAGER = "task-manager";
+    public static final String INTERRUPTION_SERVER = "interruption-server";
+
+    @Bean
+    public CircuitBreakerRegistry jobLauncherCircuitBreakerRegistry(JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.CircuitBreakerProperties circuitBreaker = jobLauncherConfigurationProperties.circuitBreaker();
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(circuitBreaker.failureRateThreshold())
+                .slidingWindowSize(circuitBreaker.slidingWindowSize())
+                .minimumNumberOfCalls(circuitBreaker.minimumNumberOfCalls())
+                .waitDurationInOpenState(circuitBreaker.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(circuitBreaker.permittedNumberOfCallsInHalfOpenState())
+                .ignoreException(CircuitBreakerConfiguration::isClientError)
+                .build());
+    }
+
+    /**
+     * A 4xx response means that the request was refused, for instance for an unknown timestamp, not that the service
+     * is failing: it is neither recorded as a failure by the circuit breakers nor retried.
+     */
+    public static boolean isClientError(final Throwable e) {
+        return e instanceof HttpClientErrorException
+                || e instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError();
+    }
+
+    @Bean
+    public MeterBinder jobLauncherCircuitBreakerMetrics(CircuitBreakerRegistry jobLauncherCircuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(jobLauncherCircuitBreakerRegistry);
+    }
+}
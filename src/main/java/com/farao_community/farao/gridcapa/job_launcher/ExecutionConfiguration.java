@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Schedulers running the blocking part of launches: task-manager calls and run messages. With
+ * spring.threads.virtual.enabled, which also moves Tomcat request handling and scheduled launches to virtual threads,
+ * each launch runs on its own virtual thread instead of a bounded pool of platform threads.
+ */
+@Configuration
+public class ExecutionConfiguration {
+
+    /**
+     * Runs launches and stops once task-manager or interruption-server answered, including the sending of their
+     * messages, so that neither blocking sends nor business logic run on the event loop threads of the HTTP client.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler launchScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return newLaunchScheduler(virtualThreads, Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, "launch");
+    }
+
+    /**
+     * Runs task updates processed in auto mode, whose concurrency is already bounded by job-launcher.auto-concurrency.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler autoLaunchScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return newLaunchScheduler(virtualThreads, Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, "auto-launch");
+    }
+
+    static Scheduler newLaunchScheduler(final boolean virtualThreads, final int threads, final String name) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory()), name);
+        }
+        return Schedulers.newBoundedElastic(threads, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, name);
+    }
+}
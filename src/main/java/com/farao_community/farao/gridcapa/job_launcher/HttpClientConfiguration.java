@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Pooled HTTP clients shared by every service calling task-manager or interruption-server,
+ * so that connections are kept alive and reused instead of being opened for each request.
+ * Both the blocking and the non-blocking clients are configured from job-launcher.url.connection.
+ */
+@Configuration
+public class HttpClientConfiguration {
+    private static final String POOL_NAME = "job-launcher";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager jobLauncherConnectionManager(JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.ConnectionProperties connection = jobLauncherConfigurationProperties.url().connection();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(connection.maxPerRoute())
+                .setMaxConnTotal(connection.maxTotal())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connection.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(connection.readTimeout()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient jobLauncherHttpClient(PoolingHttpClientConnectionManager jobLauncherConnectionManager,
+                                                     JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.ConnectionProperties connection = jobLauncherConfigurationProperties.url().connection();
+        return HttpClients.custom()
+                .setConnectionManager(jobLauncherConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(connection.idleEvictionTime()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate jobLauncherRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient jobLauncherHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(jobLauncherHttpClient))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder jobLauncherConnectionPoolMetrics(PoolingHttpClientConnectionManager jobLauncherConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(jobLauncherConnectionManager, POOL_NAME);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider jobLauncherConnectionProvider(JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.ConnectionProperties connection = jobLauncherConfigurationProperties.url().connection();
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(connection.maxPerRoute())
+                .maxIdleTime(connection.idleEvictionTime())
+                .evictInBackground(connection.idleEvictionTime())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient jobLauncherWebClient(WebClient.Builder webClientBuilder,
+                                          ConnectionProvider jobLauncherConnectionProvider,
+                                          JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.ConnectionProperties connection = jobLauncherConfigurationProperties.url().connection();
+        final HttpClient httpClient = HttpClient.create(jobLauncherConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connection.connectTimeout().toMillis())
+                .responseTimeout(connection.readTimeout());
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
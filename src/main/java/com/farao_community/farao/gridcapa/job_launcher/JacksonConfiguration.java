@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.json.LeanTaskDtoModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registered in the application ObjectMapper, the module applies to tasks read from task-manager responses and
+ * task update messages as well as to tasks forwarded in run messages.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "job-launcher.lean-task-dto", havingValue = "true", matchIfMissing = true)
+    public Module leanTaskDtoModule() {
+        return new LeanTaskDtoModule();
+    }
+}
@@ -6,17 +6,106 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher;
 
+import com.farao_community.farao.gridcapa.job_launcher.service.LaunchJournalReplayer;
+import com.farao_community.farao.gridcapa.job_launcher.service.RunMessage;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * @param combinedLaunch Whether a run is added to a task and its status set to PENDING in a single task-manager
+ *                       request, PUT {timestamp}/launch, instead of two. Only to be enabled once task-manager exposes it.
+ * @param launchTimeout Time after which a launch requested through /start, or a stop requested through /stop, is
+ *                      cancelled and reported as timed out. It must stay below job-launcher.async-request-timeout.
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
  */
 @ConfigurationProperties("job-launcher")
-public record JobLauncherConfigurationProperties(UrlProperties url, ProcessProperties process, List<String> autoTriggerFiletypes) {
+public record JobLauncherConfigurationProperties(UrlProperties url, ProcessProperties process, List<String> autoTriggerFiletypes, @DefaultValue TaskCacheProperties taskCache,
+                                                 @DefaultValue CircuitBreakerProperties circuitBreaker, @DefaultValue TriggerFilesIndexProperties triggerFilesIndex,
+                                                 @DefaultValue RunMessageProperties runMessage,
+                                                 @DefaultValue MessageCompressionProperties messageCompression,
+                                                 @DefaultValue("false") boolean combinedLaunch,
+                                                 @DefaultValue("4m") Duration launchTimeout,
+                                                 @DefaultValue LaunchAdmissionProperties launchAdmission,
+                                                 @DefaultValue LaunchJournalProperties launchJournal,
+                                                 @DefaultValue AsyncLaunchProperties asyncLaunch,
+                                                 @DefaultValue BulkLaunchProperties bulkLaunch,
+                                                 @DefaultValue BulkStopProperties bulkStop) {
 
-    public record UrlProperties(String taskManagerTimestampUrl, String taskManagerBusinessDateUrl, String interruptRunUrl) { }
+    public record UrlProperties(String taskManagerTimestampUrl, String taskManagerBusinessDateUrl, String interruptRunUrl, @DefaultValue ConnectionProperties connection) { }
+
+    public record ConnectionProperties(@DefaultValue("20") int maxPerRoute,
+                                       @DefaultValue("50") int maxTotal,
+                                       @DefaultValue("30s") Duration idleEvictionTime,
+                                       @DefaultValue("5s") Duration connectTimeout,
+                                       @DefaultValue("30s") Duration readTimeout) { }
 
     public record ProcessProperties(String timezone, int daysToAdd) { }
+
+    public record TaskCacheProperties(@DefaultValue("1000") long maxSize,
+                                      @DefaultValue("30s") Duration timeToLive) { }
+
+    public record CircuitBreakerProperties(@DefaultValue("50") float failureRateThreshold,
+                                           @DefaultValue("10") int slidingWindowSize,
+                                           @DefaultValue("5") int minimumNumberOfCalls,
+                                           @DefaultValue("30s") Duration waitDurationInOpenState,
+                                           @DefaultValue("2") int permittedNumberOfCallsInHalfOpenState) { }
+
+    public record TriggerFilesIndexProperties(@DefaultValue("1000") long maxSize,
+                                              @DefaultValue("2d") Duration expireAfterAccess) { }
+
+    /**
+     * @param formats Format of the run messages sent to each run binding, {@link RunMessage.Format#FULL} for bindings not listed.
+     */
+    public record RunMessageProperties(Map<String, RunMessage.Format> formats) {
+        public RunMessage.Format formatOf(final String runBinding) {
+            return formats == null ? RunMessage.Format.FULL : formats.getOrDefault(runBinding, RunMessage.Format.FULL);
+        }
+    }
+
+    /**
+     * @param bindings Outbound bindings whose messages are gzipped when larger than compressAbove.
+     */
+    public record MessageCompressionProperties(List<String> bindings,
+                                               @DefaultValue("16KB") DataSize compressAbove) {
+        public List<String> bindings() {
+            return bindings == null ? List.of() : bindings;
+        }
+    }
+
+    /**
+     * @param maxInFlight Launches performed at the same time.
+     * @param queueCapacity Launches waiting for an in-flight slot, further ones being rejected.
+     * @param retryAfter Time after which rejected launches are to be requested again.
+     */
+    public record LaunchAdmissionProperties(@DefaultValue("16") int maxInFlight,
+                                            @DefaultValue("100") int queueCapacity,
+                                            @DefaultValue("5s") Duration retryAfter) { }
+
+    /**
+     * @param fsync Whether records are synced to disk before a launch goes on.
+     * @param compactAbove Growth of the journal after which it is rewritten with the open launches only.
+     * @param replay What is done with the launches interrupted by the last shutdown.
+     */
+    public record LaunchJournalProperties(@DefaultValue("false") boolean enabled,
+                                          @DefaultValue("launch-journal/launches.journal") Path path,
+                                          @DefaultValue("true") boolean fsync,
+                                          @DefaultValue("16MB") DataSize compactAbove,
+                                          @DefaultValue("COMPLETE") LaunchJournalReplayer.ReplayPolicy replay) { }
+
+    /**
+     * @param retention Time after its last update during which the status of an asynchronous launch can be polled.
+     */
+    public record AsyncLaunchProperties(@DefaultValue("1h") Duration retention) { }
+
+    public record BulkLaunchProperties(@DefaultValue("4") int concurrency,
+                                       @DefaultValue("1000") int maxTimestamps) { }
+
+    public record BulkStopProperties(@DefaultValue("4") int concurrency,
+                                     @DefaultValue("1000") int maxRuns) { }
 }
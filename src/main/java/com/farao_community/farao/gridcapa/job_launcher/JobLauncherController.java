@@ -6,20 +6,32 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher;
 
+import com.farao_community.farao.gridcapa.job_launcher.service.AsyncLaunchService;
+import com.farao_community.farao.gridcapa.job_launcher.service.BulkLaunchService;
+import com.farao_community.farao.gridcapa.job_launcher.service.BulkStopService;
 import com.farao_community.farao.gridcapa.job_launcher.service.JobLauncherService;
+import com.farao_community.farao.gridcapa.job_launcher.service.LaunchAdmission;
 import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.ParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
@@ -29,26 +41,153 @@ public class JobLauncherController {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherController.class);
 
     private final JobLauncherService jobLauncherService;
+    private final AsyncLaunchService asyncLaunchService;
+    private final BulkLaunchService bulkLaunchService;
+    private final BulkStopService bulkStopService;
+    private final LaunchAdmission launchAdmission;
 
-    public JobLauncherController(JobLauncherService jobLauncherService) {
+    public JobLauncherController(JobLauncherService jobLauncherService, AsyncLaunchService asyncLaunchService,
+                                 BulkLaunchService bulkLaunchService, BulkStopService bulkStopService,
+                                 LaunchAdmission launchAdmission) {
         this.jobLauncherService = jobLauncherService;
+        this.asyncLaunchService = asyncLaunchService;
+        this.bulkLaunchService = bulkLaunchService;
+        this.bulkStopService = bulkStopService;
+        this.launchAdmission = launchAdmission;
     }
 
+    /**
+     * The launch goes through {@link LaunchAdmission}: when the launch queue is full, it is answered with 429 Too Many
+     * Requests.
+     */
     @PostMapping(value = "/start/{timestamp}")
-    public ResponseEntity<Void> launchJob(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
-        List<TaskParameterDto> taskParameterDtos = List.of();
-        if (parameters != null) {
-            taskParameterDtos = parameters.stream().map(TaskParameterDto::new).toList();
+    public Mono<ResponseEntity<Void>> launchJob(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
+        return launchAdmission.admit(timestamp, () -> jobLauncherService.launchJob(timestamp, toTaskParameterDtos(parameters)))
+                .map(launched -> getResponseEntity(launched, timestamp));
+    }
+
+    /**
+     * Answers as soon as the launch is accepted, without waiting for task-manager calls and their retries.
+     * The progress of the launch can then be polled at the returned location. As synchronous launches, it is answered
+     * with 429 Too Many Requests when the launch queue is full.
+     */
+    @PostMapping(value = "/start/{timestamp}", params = "async=true")
+    public ResponseEntity<AsyncLaunchService.LaunchStatus> launchJobAsync(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
+        final AsyncLaunchService.LaunchStatus launchStatus = asyncLaunchService.submit(timestamp, toTaskParameterDtos(parameters));
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/launches/{launchId}")
+                        .buildAndExpand(launchStatus.id())
+                        .toUri())
+                .body(launchStatus);
+    }
+
+    /**
+     * Launches the listed timestamps, or those of the [from, to) range, and answers once all of them are over with
+     * the outcome of each of them. A malformed request, listing timestamps and giving a range, giving an incomplete
+     * range, or holding too many timestamps, is answered with 400 Bad Request.
+     */
+    @PostMapping(value = "/start")
+    public Mono<ResponseEntity<List<BulkLaunchService.TimestampLaunchResult>>> launchJobs(@RequestBody BulkLaunchRequest request) {
+        try {
+            return bulkLaunchService.launchJobs(getTimestampsToLaunch(request), toTaskParameterDtos(request.parameters()))
+                    .map(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Bulk launch rejected: {}", e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().build());
         }
-        if (jobLauncherService.launchJob(timestamp, taskParameterDtos)) {
-            return ResponseEntity.ok().build();
+    }
+
+    private List<String> getTimestampsToLaunch(final BulkLaunchRequest request) {
+        if (request.isRange()) {
+            if (request.timestamps() != null || request.from() == null || request.to() == null) {
+                throw new IllegalArgumentException("Either timestamps or a complete range must be given");
+            }
+            return bulkLaunchService.timestampsInRange(request.from(), request.to(), request.stepOrDefault());
         }
-        return getEmptyResponseEntity(timestamp);
+        if (request.timestamps() == null) {
+            throw new IllegalArgumentException("Either timestamps or a complete range must be given");
+        }
+        return request.timestamps();
+    }
+
+    @GetMapping(value = "/launches/{launchId}")
+    public ResponseEntity<AsyncLaunchService.LaunchStatus> getLaunchStatus(@PathVariable UUID launchId) {
+        return ResponseEntity.of(asyncLaunchService.getLaunchStatus(launchId));
     }
 
     @PostMapping(value = "/stop/{timestamp}/{runId}")
-    public ResponseEntity<Void> stopJob(@PathVariable String timestamp, @PathVariable UUID runId) {
-        if (jobLauncherService.stopJob(timestamp, runId)) {
+    public Mono<ResponseEntity<Void>> stopJob(@PathVariable String timestamp, @PathVariable UUID runId) {
+        return jobLauncherService.stopJob(timestamp, runId)
+                .map(stopped -> getResponseEntity(stopped, timestamp));
+    }
+
+    /**
+     * Stops the listed runs, or the latest runs of the PENDING and RUNNING tasks of the business date, and answers once
+     * all of them are over with the outcome for each task. A request listing runs and giving a business date, giving
+     * neither, or listing too many runs, is answered with 400 Bad Request.
+     */
+    @PostMapping(value = "/stop")
+    public Mono<ResponseEntity<List<BulkStopService.TaskStopResult>>> stopJobs(@RequestBody BulkStopRequest request) {
+        if ((request.runs() == null) == (request.businessDate() == null)) {
+            LOGGER.warn("Bulk stop rejected: either runs or a business date must be given");
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        if (request.businessDate() != null) {
+            return bulkStopService.stopBusinessDate(request.businessDate())
+                    .map(ResponseEntity::ok)
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        LOGGER.error("Failed to retrieve tasks of business date {}", request.businessDate());
+                        return ResponseEntity.notFound().build();
+                    }));
+        }
+        try {
+            return bulkStopService.stopJobs(request.runs())
+                    .map(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Bulk stop rejected: {}", e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+    }
+
+    /**
+     * Launches and stops are rejected immediately while task-manager or interruption-server circuit is open.
+     */
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<Void> handleCallNotPermitted(final CallNotPermittedException e) {
+        LOGGER.warn("Request rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    /**
+     * Launches and stops not over within job-launcher.launch-timeout are cancelled and answered with 504 Gateway Timeout.
+     */
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<Void> handleTimeout(final TimeoutException e) {
+        LOGGER.warn("Request timed out: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+    }
+
+    /**
+     * Clients are told when to request their launch again, rounded up to the second.
+     */
+    @ExceptionHandler(LaunchQueueFullException.class)
+    public ResponseEntity<Void> handleLaunchQueueFull(final LaunchQueueFullException e) {
+        final long retryAfterSeconds = Math.max(1, e.getRetryAfter().plusMillis(999).toSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+
+    private static List<TaskParameterDto> toTaskParameterDtos(final List<ParameterDto> parameters) {
+        if (parameters == null) {
+            return List.of();
+        }
+        return parameters.stream().map(TaskParameterDto::new).toList();
+    }
+
+    private ResponseEntity<Void> getResponseEntity(final boolean success, final String timestamp) {
+        if (success) {
             return ResponseEntity.ok().build();
         }
         return getEmptyResponseEntity(timestamp);
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a launch is requested while the launch queue is full.
+ */
+public class LaunchQueueFullException extends RuntimeException {
+    private final transient Duration retryAfter;
+
+    public LaunchQueueFullException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Delay after which the launch may be requested again.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
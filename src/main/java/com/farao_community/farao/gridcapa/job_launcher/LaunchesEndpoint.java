@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.service.LaunchArbiter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the launches in progress, with their caller, start time and whether they are stuck.
+ */
+@Component
+@Endpoint(id = "launches")
+public class LaunchesEndpoint {
+
+    private final LaunchArbiter launchArbiter;
+
+    public LaunchesEndpoint(LaunchArbiter launchArbiter) {
+        this.launchArbiter = launchArbiter;
+    }
+
+    @ReadOperation
+    public List<LaunchArbiter.LaunchInFlight> launchesInFlight() {
+        return launchArbiter.getLaunchesInFlight();
+    }
+}
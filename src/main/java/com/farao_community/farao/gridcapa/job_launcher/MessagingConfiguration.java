@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.json.JacksonBinaryMessageConverter;
+import com.farao_community.farao.gridcapa.job_launcher.service.MessageCompressionInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.interceptor.GlobalChannelInterceptorWrapper;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * Encodings of the outbound messages. Besides the default application/json, a binding can be given the
+ * application/x-jackson-smile or application/cbor content-type, e.g. with
+ * spring.cloud.stream.bindings.run-task.content-type, once its consumers support it. Messages of the bindings listed
+ * in job-launcher.message-compression.bindings are also gzipped above a size threshold.
+ */
+@Configuration
+public class MessagingConfiguration {
+    public static final MimeType APPLICATION_SMILE = MimeType.valueOf("application/x-jackson-smile");
+    public static final MimeType APPLICATION_CBOR = MimeType.valueOf("application/cbor");
+
+    @Bean
+    public MessageConverter smileMessageConverter(ObjectMapper objectMapper) {
+        return new JacksonBinaryMessageConverter(objectMapper.copyWith(new SmileFactory()), APPLICATION_SMILE);
+    }
+
+    @Bean
+    public MessageConverter cborMessageConverter(ObjectMapper objectMapper) {
+        return new JacksonBinaryMessageConverter(objectMapper.copyWith(new CBORFactory()), APPLICATION_CBOR);
+    }
+
+    @Bean
+    public GlobalChannelInterceptorWrapper messageCompressionInterceptor(JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.MessageCompressionProperties messageCompression = jobLauncherConfigurationProperties.messageCompression();
+        final GlobalChannelInterceptorWrapper interceptorWrapper = new GlobalChannelInterceptorWrapper(
+                new MessageCompressionInterceptor(messageCompression.compressAbove()));
+        interceptorWrapper.setPatterns(messageCompression.bindings().toArray(String[]::new));
+        return interceptorWrapper;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+
+/**
+ * Retry policy of non-blocking calls to task-manager and interruption-server, built from the same retry.* properties
+ * as the {@code @Retryable} ones. Each new attempt is scheduled on a timer instead of sleeping on the calling thread,
+ * and a random jitter is applied to every delay so that launches failing together do not retry together.
+ */
+@Configuration
+public class RetryConfiguration {
+
+    @Bean
+    public RetryBackoffSpec jobLauncherRetrySpec(@Value("${retry.backoff.delay}") long retryDelay,
+                                                 @Value("${retry.backoff.multiplier}") double retryMultiplier,
+                                                 @Value("${retry.backoff.jitter:0}") double retryJitter,
+                                                 @Value("${retry.max-attempts}") int retryMaxAttempts) {
+        return Retry.backoff(retryMaxAttempts - 1L, Duration.ofMillis(retryDelay))
+                .multiplier(retryMultiplier)
+                .jitter(retryJitter)
+                .filter(RetryException.class::isInstance);
+    }
+}
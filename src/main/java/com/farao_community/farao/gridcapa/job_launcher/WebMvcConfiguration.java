@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Start and stop requests are answered asynchronously once task-manager calls, retries included, are over.
+ * As spring.mvc.* properties are not applied with {@code @EnableWebMvc}, the async timeout is set here from
+ * job-launcher.async-request-timeout. A single task-manager request can take up to about 375s with its retries
+ * (10s + 20s + 40s + 80s delays with up to 50% jitter, plus five 30s read timeouts), and a launch chains several of
+ * them: launches and stops are therefore cancelled after job-launcher.launch-timeout, which must stay below the async
+ * timeout so that their response tells they timed out rather than the request being cut off while they go on.
+ */
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+    private final Duration asyncRequestTimeout;
+
+    public WebMvcConfiguration(@Value("${job-launcher.async-request-timeout:5m}") Duration asyncRequestTimeout,
+                               JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        if (asyncRequestTimeout.compareTo(jobLauncherConfigurationProperties.launchTimeout()) <= 0) {
+            throw new IllegalStateException("job-launcher.async-request-timeout must be above job-launcher.launch-timeout, "
+                    + asyncRequestTimeout + " is not above " + jobLauncherConfigurationProperties.launchTimeout());
+        }
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+}
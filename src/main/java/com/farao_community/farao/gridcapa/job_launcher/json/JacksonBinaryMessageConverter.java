@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+
+/**
+ * Converts messages of a binary Jackson format, such as Smile or CBOR, used by the bindings whose content-type is
+ * the mime type of the converter. The object mapper is expected to be a copy of the application one, so that tasks
+ * are written the same way as in JSON, {@link LeanTaskDtoModule} included.
+ */
+public class JacksonBinaryMessageConverter extends AbstractMessageConverter {
+    private final ObjectMapper objectMapper;
+
+    public JacksonBinaryMessageConverter(final ObjectMapper objectMapper, final MimeType mimeType) {
+        super(mimeType);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    protected Object convertFromInternal(final Message<?> message, final Class<?> targetClass, final Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        if (targetClass == byte[].class) {
+            return payload;
+        }
+        try {
+            return objectMapper.readValue(payload, targetClass);
+        } catch (IOException e) {
+            throw new MessageConversionException(message, "Could not read " + getSupportedMimeTypes().get(0) + " payload", e);
+        }
+    }
+
+    @Override
+    protected Object convertToInternal(final Object payload, final MessageHeaders headers, final Object conversionHint) {
+        if (payload instanceof byte[]) {
+            return payload;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not write " + getSupportedMimeTypes().get(0) + " payload", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessEventDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Task read by the job launcher with {@link LeanTaskDtoModule}: availableInputs, outputs and processEvents, which
+ * the job launcher never uses, are kept as their raw JSON and written back as is when the task is serialized again.
+ * Their getters still work but bind the raw JSON on each call.
+ */
+public class LeanTaskDto extends TaskDto {
+    private static final TypeReference<List<ProcessFileDto>> PROCESS_FILES_TYPE = new TypeReference<>() { };
+    private static final TypeReference<List<ProcessEventDto>> PROCESS_EVENTS_TYPE = new TypeReference<>() { };
+
+    private final byte[] rawAvailableInputs;
+    private final byte[] rawOutputs;
+    private final byte[] rawProcessEvents;
+    private final ObjectCodec codec;
+
+    LeanTaskDto(UUID id, OffsetDateTime timestamp, TaskStatus status, List<ProcessFileDto> inputs,
+                byte[] rawAvailableInputs, byte[] rawOutputs, byte[] rawProcessEvents,
+                List<ProcessRunDto> runHistory, List<TaskParameterDto> parameters, ObjectCodec codec) {
+        super(id, timestamp, status, inputs, null, null, null, runHistory, parameters);
+        this.rawAvailableInputs = rawAvailableInputs;
+        this.rawOutputs = rawOutputs;
+        this.rawProcessEvents = rawProcessEvents;
+        this.codec = codec;
+    }
+
+    /**
+     * Same task with other parameters, raw fields included.
+     */
+    public LeanTaskDto withParameters(final List<TaskParameterDto> parameters) {
+        return new LeanTaskDto(getId(), getTimestamp(), getStatus(), getInputs(), rawAvailableInputs, rawOutputs,
+                rawProcessEvents, getRunHistory(), parameters, codec);
+    }
+
+    @Override
+    public List<ProcessFileDto> getAvailableInputs() {
+        return bind(rawAvailableInputs, PROCESS_FILES_TYPE);
+    }
+
+    @Override
+    public List<ProcessFileDto> getOutputs() {
+        return bind(rawOutputs, PROCESS_FILES_TYPE);
+    }
+
+    @Override
+    public List<ProcessEventDto> getProcessEvents() {
+        return bind(rawProcessEvents, PROCESS_EVENTS_TYPE);
+    }
+
+    byte[] rawAvailableInputs() {
+        return rawAvailableInputs;
+    }
+
+    byte[] rawOutputs() {
+        return rawOutputs;
+    }
+
+    byte[] rawProcessEvents() {
+        return rawProcessEvents;
+    }
+
+    private <T> T bind(final byte[] rawValue, final TypeReference<T> type) {
+        if (rawValue == null) {
+            return null;
+        }
+        try (JsonParser parser = codec.getFactory().createParser(rawValue)) {
+            return codec.readValue(parser, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads every {@link TaskDto} as a {@link LeanTaskDto}, copying availableInputs, outputs and processEvents as raw
+ * JSON instead of binding them, and writes a {@link LeanTaskDto} back with these raw values untouched. Binary formats
+ * such as Smile or CBOR cannot embed raw JSON: the raw values are then copied token by token into the output.
+ */
+public class LeanTaskDtoModule extends SimpleModule {
+
+    public LeanTaskDtoModule() {
+        super(LeanTaskDtoModule.class.getSimpleName());
+        addDeserializer(TaskDto.class, new LeanTaskDtoDeserializer());
+        addSerializer(LeanTaskDto.class, new LeanTaskDtoSerializer());
+    }
+
+    private static final class LeanTaskDtoDeserializer extends StdDeserializer<TaskDto> {
+
+        private LeanTaskDtoDeserializer() {
+            super(TaskDto.class);
+        }
+
+        @Override
+        public TaskDto deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+            UUID id = null;
+            OffsetDateTime timestamp = null;
+            TaskStatus status = null;
+            List<ProcessFileDto> inputs = null;
+            byte[] rawAvailableInputs = null;
+            byte[] rawOutputs = null;
+            byte[] rawProcessEvents = null;
+            List<ProcessRunDto> runHistory = null;
+            List<TaskParameterDto> parameters = null;
+            JsonToken token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "id" -> id = read(parser, context, context.constructType(UUID.class));
+                    case "timestamp" -> timestamp = read(parser, context, context.constructType(OffsetDateTime.class));
+                    case "status" -> status = read(parser, context, context.constructType(TaskStatus.class));
+                    case "inputs" -> inputs = read(parser, context, listOf(context, ProcessFileDto.class));
+                    case "availableInputs" -> rawAvailableInputs = copyRawValue(parser);
+                    case "outputs" -> rawOutputs = copyRawValue(parser);
+                    case "processEvents" -> rawProcessEvents = copyRawValue(parser);
+                    case "runHistory" -> runHistory = read(parser, context, listOf(context, ProcessRunDto.class));
+                    case "parameters" -> parameters = read(parser, context, listOf(context, TaskParameterDto.class));
+                    default -> context.handleUnknownProperty(parser, this, TaskDto.class, fieldName);
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                return (TaskDto) context.handleUnexpectedToken(TaskDto.class, parser);
+            }
+            return new LeanTaskDto(id, timestamp, status, inputs, rawAvailableInputs, rawOutputs, rawProcessEvents,
+                    runHistory, parameters, parser.getCodec());
+        }
+
+        private static JavaType listOf(final DeserializationContext context, final Class<?> elementClass) {
+            return context.getTypeFactory().constructCollectionType(List.class, elementClass);
+        }
+
+        private static <T> T read(final JsonParser parser, final DeserializationContext context, final JavaType type) throws IOException {
+            return parser.currentToken() == JsonToken.VALUE_NULL ? null : context.readValue(parser, type);
+        }
+
+        private static byte[] copyRawValue(final JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            try (ByteArrayBuilder rawValue = new ByteArrayBuilder();
+                 JsonGenerator generator = parser.getCodec().getFactory().createGenerator(rawValue)) {
+                generator.copyCurrentStructure(parser);
+                generator.flush();
+                return rawValue.toByteArray();
+            }
+        }
+    }
+
+    private static final class LeanTaskDtoSerializer extends StdSerializer<LeanTaskDto> {
+        private static final JsonFactory RAW_VALUES_FACTORY = new JsonFactory();
+
+        private LeanTaskDtoSerializer() {
+            super(LeanTaskDto.class);
+        }
+
+        @Override
+        public void serialize(final LeanTaskDto taskDto, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+            generator.writeStartObject(taskDto);
+            provider.defaultSerializeField("id", taskDto.getId(), generator);
+            provider.defaultSerializeField("timestamp", taskDto.getTimestamp(), generator);
+            provider.defaultSerializeField("status", taskDto.getStatus(), generator);
+            provider.defaultSerializeField("inputs", taskDto.getInputs(), generator);
+            writeRawField("availableInputs", taskDto.rawAvailableInputs(), generator);
+            writeRawField("outputs", taskDto.rawOutputs(), generator);
+            writeRawField("processEvents", taskDto.rawProcessEvents(), generator);
+            provider.defaultSerializeField("runHistory", taskDto.getRunHistory(), generator);
+            provider.defaultSerializeField("parameters", taskDto.getParameters(), generator);
+            generator.writeEndObject();
+        }
+
+        private static void writeRawField(final String fieldName, final byte[] rawValue, final JsonGenerator generator) throws IOException {
+            generator.writeFieldName(fieldName);
+            if (rawValue == null) {
+                generator.writeNull();
+            } else if (generator instanceof JsonGeneratorImpl) {
+                generator.writeRawValue(new String(rawValue, StandardCharsets.UTF_8));
+            } else {
+                try (JsonParser parser = RAW_VALUES_FACTORY.createParser(rawValue)) {
+                    parser.nextToken();
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.LaunchQueueFullException;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Launches accepted without waiting for their outcome: each launch gets an id and its progress can be polled by id
+ * for job-launcher.async-launch.retention after it was last updated. As any launch, it goes on on the launch scheduler
+ * once task-manager answered, see {@link TaskManagerAsyncService}.
+ */
+@Service
+public class AsyncLaunchService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLaunchService.class);
+    private static final int MAX_LAUNCH_STATUSES = 10_000;
+
+    private final JobLauncherService jobLauncherService;
+    private final LaunchAdmission launchAdmission;
+    private final Cache<UUID, LaunchStatus> launchStatuses;
+
+    public AsyncLaunchService(JobLauncherService jobLauncherService,
+                              LaunchAdmission launchAdmission,
+                              JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        this.jobLauncherService = jobLauncherService;
+        this.launchAdmission = launchAdmission;
+        this.launchStatuses = Caffeine.newBuilder()
+                .maximumSize(MAX_LAUNCH_STATUSES)
+                .expireAfterWrite(jobLauncherConfigurationProperties.asyncLaunch().retention())
+                .build();
+    }
+
+    /**
+     * Accepts the launch and starts it in the background once admitted by the {@link LaunchAdmission}.
+     *
+     * @return The status of the launch when accepted, holding its id.
+     * @throws LaunchQueueFullException When the launch queue is full, the launch then being forgotten.
+     */
+    public LaunchStatus submit(final String timestamp, final List<TaskParameterDto> parameters) {
+        final UUID launchId = UUID.randomUUID();
+        final Instant now = Instant.now();
+        final LaunchStatus accepted = new LaunchStatus(launchId, timestamp, LaunchStage.ACCEPTED, null, now, now);
+        // Known before being admitted, as the launch may report its progress as soon as it is
+        launchStatuses.put(launchId, accepted);
+        final Mono<Boolean> launch;
+        try {
+            launch = launchAdmission.admit(timestamp, () -> jobLauncherService
+                    .launchJob(timestamp, parameters, (stage, detail) -> updateStage(launchId, stage, detail)));
+        } catch (LaunchQueueFullException e) {
+            launchStatuses.invalidate(launchId);
+            throw e;
+        }
+        LOGGER.info("Launch {} of task {} accepted", launchId, LoggingUtil.sanifyString(timestamp));
+        launch.subscribe(launched -> updateStage(launchId, LaunchStage.arbitrated(launched), null),
+                    e -> updateStage(launchId, LaunchStage.FAILED, e.getMessage()));
+        return accepted;
+    }
+
+    public Optional<LaunchStatus> getLaunchStatus(final UUID launchId) {
+        return Optional.ofNullable(launchStatuses.getIfPresent(launchId));
+    }
+
+    private void updateStage(final UUID launchId, final LaunchStage stage, final String detail) {
+        launchStatuses.asMap().computeIfPresent(launchId, (id, status) -> status.stage().isFinal()
+                ? status
+                : new LaunchStatus(id, status.timestamp(), stage, detail, status.acceptedAt(), Instant.now()));
+    }
+
+    public record LaunchStatus(UUID id, String timestamp, LaunchStage stage, String detail, Instant acceptedAt, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Launches several timestamps with the same parameters, following the rules of {@link JobLauncherService#launchJob},
+ * at most job-launcher.bulk-launch.concurrency at a time, and reports the outcome of each of them.
+ */
+@Service
+public class BulkLaunchService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkLaunchService.class);
+
+    private final JobLauncherService jobLauncherService;
+    private final int concurrency;
+    private final int maxTimestamps;
+
+    public BulkLaunchService(JobLauncherService jobLauncherService,
+                             JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        this.jobLauncherService = jobLauncherService;
+        this.concurrency = jobLauncherConfigurationProperties.bulkLaunch().concurrency();
+        this.maxTimestamps = jobLauncherConfigurationProperties.bulkLaunch().maxTimestamps();
+    }
+
+    /**
+     * Timestamps of the [from, to) range, every step.
+     *
+     * @throws IllegalArgumentException When the range is empty, the step is not positive or the range holds more
+     * than job-launcher.bulk-launch.max-timestamps timestamps.
+     */
+    public List<String> timestampsInRange(final OffsetDateTime from, final OffsetDateTime to, final Duration step) {
+        if (step.isZero() || step.isNegative()) {
+            throw new IllegalArgumentException("Step must be positive");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Range end must be after range start");
+        }
+        final List<String> timestamps = new ArrayList<>();
+        for (OffsetDateTime timestamp = from; timestamp.isBefore(to); timestamp = timestamp.plus(step)) {
+            if (timestamps.size() == maxTimestamps) {
+                throw new IllegalArgumentException("Range holds more than " + maxTimestamps + " timestamps");
+            }
+            timestamps.add(timestamp.toString());
+        }
+        return timestamps;
+    }
+
+    /**
+     * @return The outcome of the launch of each timestamp, in the order of the timestamps.
+     * @throws IllegalArgumentException When there are no timestamps or more than job-launcher.bulk-launch.max-timestamps.
+     */
+    public Mono<List<TimestampLaunchResult>> launchJobs(final List<String> timestamps, final List<TaskParameterDto> parameters) {
+        if (timestamps.isEmpty() || timestamps.size() > maxTimestamps) {
+            throw new IllegalArgumentException("Between 1 and " + maxTimestamps + " timestamps can be launched at once");
+        }
+        LOGGER.info("Received order to launch {} tasks", timestamps.size());
+        return Flux.fromIterable(timestamps)
+                .flatMapSequential(timestamp -> launchJob(timestamp, parameters), concurrency)
+                .collectList();
+    }
+
+    private Mono<TimestampLaunchResult> launchJob(final String timestamp, final List<TaskParameterDto> parameters) {
+        final LastStageListener lastStageListener = new LastStageListener();
+        return jobLauncherService.launchJob(timestamp, parameters, lastStageListener)
+                .map(launched -> lastStageListener.toResult(timestamp, launched))
+                .onErrorResume(e -> {
+                    LOGGER.error("Exception occured while launching task with timestamp {}", LoggingUtil.sanifyString(timestamp), e);
+                    return Mono.just(new TimestampLaunchResult(timestamp, LaunchStage.FAILED, e.getMessage()));
+                });
+    }
+
+    public record TimestampLaunchResult(String timestamp, LaunchStage stage, String detail) {
+    }
+
+    private static final class LastStageListener implements LaunchProgressListener {
+        private volatile LaunchStage stage = LaunchStage.ACCEPTED;
+        private volatile String detail;
+
+        @Override
+        public void onStage(final LaunchStage stage, final String detail) {
+            this.stage = stage;
+            this.detail = detail;
+        }
+
+        private TimestampLaunchResult toResult(final String timestamp, final boolean launched) {
+            if (stage.isFinal()) {
+                return new TimestampLaunchResult(timestamp, stage, detail);
+            }
+            return new TimestampLaunchResult(timestamp, LaunchStage.arbitrated(launched), null);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stops several runs, at most job-launcher.bulk-stop.concurrency at a time, and reports the outcome for each task.
+ * Runs are either given, their task being read again from task-manager as for a single stop, or are the latest runs
+ * of the PENDING and RUNNING tasks of a business date. Each stop not over within job-launcher.launch-timeout is
+ * cancelled and reported as failed.
+ */
+@Service
+public class BulkStopService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkStopService.class);
+    private static final String STOP_BINDING = "stop-task";
+
+    private final JobLauncherCommonService jobLauncherCommonService;
+    private final TaskManagerAsyncService taskManagerAsyncService;
+    private final TaskDtoCache taskDtoCache;
+    private final Duration stopTimeout;
+    private final int concurrency;
+    private final int maxRuns;
+
+    public BulkStopService(JobLauncherCommonService jobLauncherCommonService,
+                           TaskManagerAsyncService taskManagerAsyncService,
+                           TaskDtoCache taskDtoCache,
+                           JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        this.jobLauncherCommonService = jobLauncherCommonService;
+        this.taskManagerAsyncService = taskManagerAsyncService;
+        this.taskDtoCache = taskDtoCache;
+        this.stopTimeout = jobLauncherConfigurationProperties.launchTimeout();
+        this.concurrency = jobLauncherConfigurationProperties.bulkStop().concurrency();
+        this.maxRuns = jobLauncherConfigurationProperties.bulkStop().maxRuns();
+    }
+
+    public enum StopOutcome {
+        STOPPED,
+        /**
+         * The task is neither PENDING nor RUNNING.
+         */
+        NOT_STOPPABLE,
+        NOT_FOUND,
+        /**
+         * Interruption-server could not be contacted, or the stop failed unexpectedly.
+         */
+        FAILED
+    }
+
+    public record RunToStop(String timestamp, UUID runId) {
+    }
+
+    public record TaskStopResult(String timestamp, UUID runId, StopOutcome outcome, String detail) {
+    }
+
+    /**
+     * @return The outcome of the stop of each run, in the order of the runs.
+     * @throws IllegalArgumentException When there are no runs or more than job-launcher.bulk-stop.max-runs.
+     */
+    public Mono<List<TaskStopResult>> stopJobs(final List<RunToStop> runsToStop) {
+        if (runsToStop.isEmpty() || runsToStop.size() > maxRuns) {
+            throw new IllegalArgumentException("Between 1 and " + maxRuns + " runs can be stopped at once");
+        }
+        LOGGER.info("Received order to interrupt {} runs", runsToStop.size());
+        return Flux.fromIterable(runsToStop)
+                .flatMapSequential(runToStop -> stopJob(runToStop.timestamp(), runToStop.runId()), concurrency)
+                .collectList();
+    }
+
+    /**
+     * Stops the latest run of each PENDING or RUNNING task of the business date. Tasks are read once for the whole
+     * business date, so each stop only requests interruption-server and task-manager status update.
+     *
+     * @return The outcome for each stoppable task, empty when the tasks of the business date could not be retrieved.
+     */
+    public Mono<List<TaskStopResult>> stopBusinessDate(final LocalDate businessDate) {
+        LOGGER.info("Received order to interrupt tasks of business date {}", businessDate);
+        return taskManagerAsyncService.getTasksFromBusinessDate(businessDate.toString())
+                .flatMap(taskDtos -> Flux.fromArray(taskDtos)
+                        .filter(JobLauncherService::isTaskReadyToBeStopped)
+                        .flatMapSequential(this::stopLatestRun, concurrency)
+                        .collectList());
+    }
+
+    private Mono<TaskStopResult> stopLatestRun(final TaskDto taskDto) {
+        final String timestamp = taskDto.getTimestamp().toString();
+        final UUID latestRunId = TaskManagerAsyncService.getLatestRunId(taskDto);
+        if (latestRunId == null) {
+            return Mono.just(new TaskStopResult(timestamp, null, StopOutcome.FAILED, "Task has no run"));
+        }
+        return stopRun(timestamp, latestRunId, taskDto);
+    }
+
+    private Mono<TaskStopResult> stopJob(final String timestamp, final UUID runId) {
+        return Mono.defer(() -> taskDtoCache.getFreshTaskFromTimestamp(timestamp))
+                .flatMap(taskDto -> {
+                    if (!JobLauncherService.isTaskReadyToBeStopped(taskDto)) {
+                        return Mono.just(new TaskStopResult(timestamp, runId, StopOutcome.NOT_STOPPABLE, "Task status is " + taskDto.getStatus()));
+                    }
+                    return stopRun(timestamp, runId, taskDto);
+                })
+                .defaultIfEmpty(new TaskStopResult(timestamp, runId, StopOutcome.NOT_FOUND, null))
+                .timeout(stopTimeout, Mono.error(() -> stopTimedOut()))
+                .onErrorResume(e -> Mono.just(failed(timestamp, runId, e)));
+    }
+
+    private Mono<TaskStopResult> stopRun(final String timestamp, final UUID runId, final TaskDto taskDto) {
+        return Mono.defer(() -> jobLauncherCommonService.stopJob(runId, taskDto, STOP_BINDING))
+                .map(stopped -> stopped
+                        ? new TaskStopResult(timestamp, runId, StopOutcome.STOPPED, null)
+                        : new TaskStopResult(timestamp, runId, StopOutcome.FAILED, "Could not contact interruption-server"))
+                .timeout(stopTimeout, Mono.error(() -> stopTimedOut()))
+                .onErrorResume(e -> Mono.just(failed(timestamp, runId, e)));
+    }
+
+    private TimeoutException stopTimedOut() {
+        return new TimeoutException("Stop did not complete within " + stopTimeout);
+    }
+
+    private static TaskStopResult failed(final String timestamp, final UUID runId, final Throwable e) {
+        LOGGER.error("Exception occured while interrupting task with timestamp {}", LoggingUtil.sanifyString(timestamp), e);
+        return new TaskStopResult(timestamp, runId, StopOutcome.FAILED, e.getMessage());
+    }
+}
@@ -6,25 +6,29 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
+import com.farao_community.farao.gridcapa.job_launcher.CircuitBreakerConfiguration;
 import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
 import com.farao_community.farao.gridcapa.job_launcher.RetryException;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.RetryBackoffSpec;
 
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -34,40 +38,66 @@ import java.util.UUID;
 public class InterruptionServerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(InterruptionServerService.class);
     private final JobLauncherConfigurationProperties jobLauncherConfigurationProperties;
-    private final RestTemplateBuilder restTemplateBuilder;
+    private final WebClient webClient;
+    private final RetryBackoffSpec retrySpec;
+    private final CircuitBreaker circuitBreaker;
+    private final LaunchMetrics launchMetrics;
+    private final Scheduler launchScheduler;
 
-    public InterruptionServerService(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, RestTemplateBuilder restTemplateBuilder) {
+    public InterruptionServerService(JobLauncherConfigurationProperties jobLauncherConfigurationProperties,
+                                     WebClient jobLauncherWebClient,
+                                     RetryBackoffSpec jobLauncherRetrySpec,
+                                     CircuitBreakerRegistry jobLauncherCircuitBreakerRegistry,
+                                     LaunchMetrics launchMetrics,
+                                     @Qualifier("launchScheduler") Scheduler launchScheduler) {
         this.jobLauncherConfigurationProperties = jobLauncherConfigurationProperties;
-        this.restTemplateBuilder = restTemplateBuilder;
+        this.webClient = jobLauncherWebClient;
+        this.retrySpec = jobLauncherRetrySpec;
+        this.circuitBreaker = jobLauncherCircuitBreakerRegistry.circuitBreaker(CircuitBreakerConfiguration.INTERRUPTION_SERVER);
+        this.launchMetrics = launchMetrics;
+        this.launchScheduler = launchScheduler;
     }
 
-    @Retryable(retryFor = RetryException.class,
-            backoff = @Backoff(delayExpression = "${retry.backoff.delay}", multiplierExpression = "${retry.backoff.multiplier}"),
-            maxAttemptsExpression = "${retry.max-attempts}",
-            recover = "fallbackInterruptRun")
-    public Optional<Boolean> interruptRun(final UUID runId, final TaskDto taskDto) {
-        try {
-            final String interruptRunUrl = jobLauncherConfigurationProperties.url().interruptRunUrl() + taskDto.getId() + "?runId=" + runId;
-            final ResponseEntity<Boolean> responseEntity = restTemplateBuilder.build().exchange(interruptRunUrl, HttpMethod.PUT, new HttpEntity<Object>(Map.of()), Boolean.class);
-            return getOptionalFromResponseEntity(responseEntity);
-        } catch (RestClientException e) {
-            throw new RetryException("Exception occurred during request to interruption-server", e);
-        }
-    }
-
-    @Recover
-    public Optional<Boolean> fallbackInterruptRun(final Exception e, final UUID runId, final TaskDto taskDto) {
-        LOGGER.error("Problem occurred while requesting interruption-server for timestamp {} and runId {}", taskDto.getTimestamp(), runId, e);
-        return Optional.empty();
+    /**
+     * Requests interruption-server to interrupt the given run. Failed attempts are retried according to the retry.*
+     * properties without holding any thread; when all of them failed, the returned {@link Mono} completes empty.
+     * When the circuit is open, it fails immediately with a {@link CallNotPermittedException}. The response is
+     * published on the launch scheduler, see {@link TaskManagerAsyncService}.
+     */
+    public Mono<Boolean> interruptRun(final UUID runId, final TaskDto taskDto) {
+        final String interruptRunUrl = jobLauncherConfigurationProperties.url().interruptRunUrl() + taskDto.getId() + "?runId=" + runId;
+        final AtomicInteger retryCount = new AtomicInteger();
+        final Mono<Boolean> attempt = Mono.defer(() -> {
+            if (retryCount.getAndIncrement() > 0) {
+                launchMetrics.recordRetry(LaunchMetrics.INTERRUPT_RUN);
+            }
+            return webClient.put()
+                    .uri(interruptRunUrl)
+                    .bodyValue(Map.of())
+                    .exchangeToMono(InterruptionServerService::getBodyFromResponse);
+        });
+        return launchMetrics.timeStage(LaunchMetrics.INTERRUPT_RUN, attempt
+                .onErrorMap(e -> e instanceof WebClientException && !CircuitBreakerConfiguration.isClientError(e),
+                        e -> new RetryException("Exception occurred during request to interruption-server", e))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retrySpec)
+                .publishOn(launchScheduler)
+                .onErrorResume(e -> !(e instanceof CallNotPermittedException), e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.INTERRUPT_RUN);
+                    LOGGER.error("Problem occurred while requesting interruption-server for timestamp {} and runId {}", taskDto.getTimestamp(), runId, e);
+                    return Mono.empty();
+                }));
     }
 
-    private static <T> Optional<T> getOptionalFromResponseEntity(final ResponseEntity<T> responseEntity) {
-        if (responseEntity != null
-                && responseEntity.getBody() != null
-                && responseEntity.getStatusCode() == HttpStatus.OK) {
-            return Optional.of(responseEntity.getBody());
+    private static Mono<Boolean> getBodyFromResponse(final ClientResponse response) {
+        if (response.statusCode().isSameCodeAs(HttpStatus.OK)) {
+            return response.bodyToMono(Boolean.class)
+                    .switchIfEmpty(Mono.error(() -> new RetryException("Unexpected response from the interruption-server")));
+        } else if (response.statusCode().is4xxClientError()) {
+            return response.createException().flatMap(Mono::error);
         } else {
-            throw new RetryException("Unexpected response from the interruption-server");
+            return response.releaseBody()
+                    .then(Mono.error(() -> new RetryException("Unexpected response from the interruption-server")));
         }
     }
 }
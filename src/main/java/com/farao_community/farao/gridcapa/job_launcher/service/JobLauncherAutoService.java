@@ -7,21 +7,30 @@
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
 import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
-import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.List;
-import java.util.Set;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
@@ -34,48 +43,110 @@ public class JobLauncherAutoService {
     private static final String RUN_BINDING = "run-task-auto";
     private final JobLauncherConfigurationProperties jobLauncherConfigurationProperties;
     private final JobLauncherCommonService jobLauncherCommonService;
+    private final TaskDtoCache taskDtoCache;
+    private final UsedTriggerFilesIndex usedTriggerFilesIndex;
+    private final MeterRegistry meterRegistry;
+    private final int lanesCount;
+    private final AtomicInteger pendingUpdates = new AtomicInteger();
+    private final Timer updateProcessingTimer;
+    private final Duration coalescingWindow;
+    private final Map<UUID, TaskDto> latestUpdatesInWindow = new ConcurrentHashMap<>();
+    private final Counter coalescedUpdatesCounter;
+    private final Scheduler launchScheduler;
 
-    public JobLauncherAutoService(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, JobLauncherCommonService jobLauncherCommonService) {
+    public JobLauncherAutoService(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, JobLauncherCommonService jobLauncherCommonService, TaskDtoCache taskDtoCache,
+                                  UsedTriggerFilesIndex usedTriggerFilesIndex,
+                                  MeterRegistry meterRegistry, @Value("${job-launcher.auto-concurrency:4}") int autoConcurrency,
+                                  @Value("${job-launcher.auto-coalescing-window:1s}") Duration coalescingWindow,
+                                  @Qualifier("autoLaunchScheduler") Scheduler launchScheduler) {
         this.jobLauncherConfigurationProperties = jobLauncherConfigurationProperties;
         this.jobLauncherCommonService = jobLauncherCommonService;
+        this.taskDtoCache = taskDtoCache;
+        this.usedTriggerFilesIndex = usedTriggerFilesIndex;
+        this.meterRegistry = meterRegistry;
+        this.lanesCount = Math.max(1, autoConcurrency);
+        this.coalescingWindow = coalescingWindow;
+        this.launchScheduler = launchScheduler;
+        Gauge.builder("job.launcher.auto.updates.pending", pendingUpdates, AtomicInteger::get)
+                .description("Task updates received but not processed yet")
+                .register(meterRegistry);
+        this.updateProcessingTimer = Timer.builder("job.launcher.auto.update.processing")
+                .description("Time spent processing a task update, launch included")
+                .register(meterRegistry);
+        this.coalescedUpdatesCounter = Counter.builder("job.launcher.auto.updates.coalesced")
+                .description("Task updates replaced by a later update of the same task before being processed")
+                .register(meterRegistry);
     }
 
+    /**
+     * Updates are dispatched by task id over job-launcher.auto-concurrency lanes, processed concurrently on the auto launch
+     * scheduler, which uses virtual threads when spring.threads.virtual.enabled. Within a lane, updates are processed one
+     * at a time and in order, so updates of a given task are never reordered, while a slow launch only holds up the tasks
+     * sharing its lane. The number of lanes being fixed, every group stays subscribed and demand on the binder is bounded
+     * by the lanes' prefetch.
+     * Beforehand, updates of a task received within job-launcher.auto-coalescing-window are coalesced into the latest one.
+     */
     @Bean
     public Consumer<Flux<TaskDto>> consumeTaskDtoUpdate() {
         return f -> f
+                .doOnNext(taskDtoCache::update)
+                .flatMap(this::coalesce)
+                .doOnNext(taskDto -> pendingUpdates.incrementAndGet())
+                .groupBy(this::getLane)
+                .flatMap(lane -> lane.concatMap(this::processUpdate), lanesCount)
                 .onErrorContinue((t, r) -> LOGGER.error(t.getMessage(), t))
-                .subscribe(this::runReadyTasks);
+                .subscribe();
     }
 
-    void runReadyTasks(final TaskDto updatedTaskDto) {
-        try {
+    /**
+     * The first update of a task opens a window at the end of which the latest update of the task received meanwhile
+     * is emitted. Other updates of the task received during the window complete empty.
+     */
+    private Mono<TaskDto> coalesce(final TaskDto updatedTaskDto) {
+        if (coalescingWindow.isZero() || coalescingWindow.isNegative() || updatedTaskDto.getId() == null) {
+            return Mono.just(updatedTaskDto);
+        }
+        final UUID taskId = updatedTaskDto.getId();
+        if (latestUpdatesInWindow.put(taskId, updatedTaskDto) != null) {
+            coalescedUpdatesCounter.increment();
+            return Mono.empty();
+        }
+        return Mono.delay(coalescingWindow)
+                .mapNotNull(tick -> latestUpdatesInWindow.remove(taskId));
+    }
+
+    int getLane(final TaskDto taskDto) {
+        return Math.floorMod(Objects.hashCode(taskDto.getId()), lanesCount);
+    }
+
+    private Mono<Void> processUpdate(final TaskDto updatedTaskDto) {
+        return Mono.defer(() -> {
+            final Timer.Sample processingSample = Timer.start(meterRegistry);
+            return runReadyTasks(updatedTaskDto)
+                    .subscribeOn(launchScheduler)
+                    .doFinally(signalType -> {
+                        processingSample.stop(updateProcessingTimer);
+                        pendingUpdates.decrementAndGet();
+                    });
+        });
+    }
+
+    Mono<Void> runReadyTasks(final TaskDto updatedTaskDto) {
+        return Mono.defer(() -> {
             if (updatedTaskDto.getStatus() == TaskStatus.READY) {
                 final boolean autoTriggerFiletypesDefinedInConfig = !jobLauncherConfigurationProperties.autoTriggerFiletypes().isEmpty();
-                if (autoTriggerFiletypesDefinedInConfig && allTriggerFilesAlreadyUsed(updatedTaskDto)) {
+                if (autoTriggerFiletypesDefinedInConfig && usedTriggerFilesIndex.allTriggerFilesAlreadyUsed(updatedTaskDto, jobLauncherConfigurationProperties.autoTriggerFiletypes())) {
                     // If all selected files corresponding to trigger filetypes are linked to some Run in Task's history,
                     // then the update does not concern a trigger file, so job launcher should do nothing
-                    return;
+                    return Mono.<Void>empty();
                 }
-
-                // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
-                // This should be done only once, as soon as the information to add in mdc is available.
-                MDC.put("gridcapa-task-id", updatedTaskDto.getId().toString());
-                jobLauncherCommonService.launchJob(updatedTaskDto, RUN_BINDING);
+                return jobLauncherCommonService.launchReadyTaskAsync(updatedTaskDto, RUN_BINDING, LaunchArbiter.Caller.AUTO).then();
             }
-        } catch (Exception e) {
+            return Mono.<Void>empty();
+        }).onErrorResume(e -> {
             /* this exeption block avoids gridcapa export from disconnecting from spring cloud stream !*/
             LOGGER.error(e.getMessage(), e);
-        }
-    }
-
-    private boolean allTriggerFilesAlreadyUsed(final TaskDto updatedTaskDto) {
-        final List<ProcessFileDto> triggerFiles = updatedTaskDto.getInputs().stream()
-                .filter(f -> jobLauncherConfigurationProperties.autoTriggerFiletypes().contains(f.getFileType()))
-                .toList();
-
-        final Set<ProcessFileDto> filesUsedInPreviousRun = updatedTaskDto.getRunHistory().stream()
-                .flatMap(run -> run.getInputs().stream())
-                .collect(Collectors.toSet());
-        return filesUsedInPreviousRun.containsAll(triggerFiles);
+            return Mono.empty();
+        });
     }
 }
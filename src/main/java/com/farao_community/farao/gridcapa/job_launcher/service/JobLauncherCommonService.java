@@ -7,17 +7,21 @@
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
 import com.farao_community.farao.gridcapa.job_launcher.GridcapaConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.json.LeanTaskDto;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
 import org.slf4j.Logger;
-import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -26,59 +30,240 @@ import java.util.UUID;
 public class JobLauncherCommonService {
     private static final String TASK_STATUS_UPDATE = "task-status-update";
     private final Logger jobLauncherEventsLogger;
-    private final StreamBridge streamBridge;
+    private final MessagePublisher messagePublisher;
     private final InterruptionServerService interruptionServerService;
-    private final TaskManagerService taskManagerService;
+    private final TaskManagerAsyncService taskManagerAsyncService;
+    private final TaskDtoCache taskDtoCache;
+    private final LaunchArbiter launchArbiter;
+    private final LaunchJournal launchJournal;
     private final GridcapaConfiguration gridcapaConfiguration;
+    private final JobLauncherConfigurationProperties.RunMessageProperties runMessageProperties;
+    private final LaunchMetrics launchMetrics;
 
     public JobLauncherCommonService(Logger jobLauncherEventsLogger,
-                                    StreamBridge streamBridge,
+                                    MessagePublisher messagePublisher,
                                     InterruptionServerService interruptionServerService,
-                                    TaskManagerService taskManagerService,
-                                    GridcapaConfiguration gridcapaConfiguration) {
+                                    TaskManagerAsyncService taskManagerAsyncService,
+                                    TaskDtoCache taskDtoCache,
+                                    LaunchArbiter launchArbiter,
+                                    LaunchJournal launchJournal,
+                                    GridcapaConfiguration gridcapaConfiguration,
+                                    JobLauncherConfigurationProperties jobLauncherConfigurationProperties,
+                                    LaunchMetrics launchMetrics) {
         this.jobLauncherEventsLogger = jobLauncherEventsLogger;
-        this.streamBridge = streamBridge;
+        this.messagePublisher = messagePublisher;
         this.interruptionServerService = interruptionServerService;
-        this.taskManagerService = taskManagerService;
+        this.taskManagerAsyncService = taskManagerAsyncService;
+        this.taskDtoCache = taskDtoCache;
+        this.launchArbiter = launchArbiter;
+        this.launchJournal = launchJournal;
         this.gridcapaConfiguration = gridcapaConfiguration;
+        this.runMessageProperties = jobLauncherConfigurationProperties.runMessage();
+        this.launchMetrics = launchMetrics;
     }
 
-    public void launchJob(final TaskDto taskDto, final String runBinding) {
-        this.launchJob(taskDto, runBinding, null);
+    public Mono<Boolean> launchJobAsync(final TaskDto taskDto, final String runBinding) {
+        return this.launchJobAsync(taskDto, runBinding, null);
     }
 
-    public void launchJob(final TaskDto taskDto, final String runBinding, final List<TaskParameterDto> parameters) {
+    /**
+     * Adds a new run to the task, sets it to PENDING and sends its run message, relying on
+     * {@link TaskManagerAsyncService} so that no thread is held while task-manager requests are in flight. The run
+     * is added and the status set to PENDING in a single request when task-manager supports it. Nothing happens until
+     * the result is subscribed.
+     *
+     * @return True when the run message was sent, even if not confirmed in time when job-launcher.publisher-confirms.enabled,
+     * false when the launch failed and the task was set to ERROR.
+     */
+    public Mono<Boolean> launchJobAsync(final TaskDto taskDto, final String runBinding, final List<TaskParameterDto> parameters) {
+        return this.launchJobAsync(taskDto, runBinding, parameters, LaunchProgressListener.NONE);
+    }
+
+    /**
+     * Same as {@link #launchJobAsync(TaskDto, String, List)}, notifying the listener of each stage reached.
+     * The launch is recorded in the {@link LaunchJournal} before its run is added, so that it is resumed on next
+     * start if interrupted in between. A launch failing with an error, or cancelled, is no longer journaled: when
+     * this happens while its run is being added, its task is set to ERROR, as when its run could not be added.
+     * The launch and each of its stages are timed, see {@link LaunchMetrics}.
+     */
+    public Mono<Boolean> launchJobAsync(final TaskDto taskDto, final String runBinding, final List<TaskParameterDto> parameters,
+                                        final LaunchProgressListener progressListener) {
+        return launchMetrics.timeLaunch(launchJournal.recordIntent(taskDto, runBinding, parameters)
+                .flatMap(launchId -> {
+                    final AtomicBoolean runAdded = new AtomicBoolean();
+                    return launchJournaledJobAsync(launchId, taskDto, runBinding, parameters, progressListener, runAdded)
+                            .doOnNext(messageSent -> launchJournal.recordCompleted(launchId))
+                            .doOnError(e -> abandonLaunch(launchId, taskDto, runAdded.get()))
+                            .doOnCancel(() -> abandonLaunch(launchId, taskDto, runAdded.get()));
+                }));
+    }
+
+    private Mono<Boolean> launchJournaledJobAsync(final UUID launchId, final TaskDto taskDto, final String runBinding, final List<TaskParameterDto> parameters,
+                                                  final LaunchProgressListener progressListener, final AtomicBoolean runAdded) {
+        final String timestamp = taskDto.getTimestamp().toString();
+        return taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, taskDto.getInputs())
+                .flatMap(newRun -> {
+                    runAdded.set(true);
+                    launchJournal.recordRunAdded(launchId, newRun.runId());
+                    progressListener.onStage(LaunchStage.RUN_ADDED, null);
+                    if (!newRun.taskStatusUpdated()) {
+                        return sendRunMessage(taskDto, newRun, runBinding, parameters)
+                                .doOnNext(messageSent -> progressListener.onStage(LaunchStage.FAILED, "Could not set task's status to PENDING"));
+                    }
+                    progressListener.onStage(LaunchStage.PENDING_SET, null);
+                    return sendRunMessage(taskDto, newRun, runBinding, parameters)
+                            .doOnNext(messageSent -> {
+                                if (messageSent) {
+                                    progressListener.onStage(LaunchStage.MESSAGE_SENT, null);
+                                } else {
+                                    progressListener.onStage(LaunchStage.FAILED, "Run message not sent");
+                                }
+                            });
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    handleRunNotAdded(taskDto);
+                    progressListener.onStage(LaunchStage.FAILED, "Could not add new run to the task");
+                    return false;
+                }));
+    }
+
+    /**
+     * Launches a READY task, as auto-trigger and scheduler do, arbitrated by the {@link LaunchArbiter} against other
+     * launches of the same timestamp. A launch queued behind another one reads the task again and only goes on if
+     * the task is still READY.
+     *
+     * @return True when the run message was sent, false when the launch was rejected, skipped or failed.
+     */
+    public Mono<Boolean> launchReadyTaskAsync(final TaskDto taskDto, final String runBinding, final LaunchArbiter.Caller caller) {
         final String timestamp = taskDto.getTimestamp().toString();
-        final Optional<TaskDto> taskDtoWithRunOpt = taskManagerService.addNewRunInTaskHistory(timestamp, taskDto.getInputs());
-        if (taskDtoWithRunOpt.isPresent()) {
-            TaskDto taskDtoWithRun = taskDtoWithRunOpt.get();
-            if (parameters != null && !parameters.isEmpty()) {
-                taskDtoWithRun = new TaskDto(taskDtoWithRun.getId(), taskDtoWithRun.getTimestamp(), taskDtoWithRun.getStatus(), taskDtoWithRun.getInputs(), taskDtoWithRun.getAvailableInputs(), taskDtoWithRun.getOutputs(), taskDtoWithRun.getProcessEvents(), taskDtoWithRun.getRunHistory(), parameters);
+        return launchArbiter.arbitrate(timestamp, caller, queued -> {
+            if (!queued) {
+                return launchJobAsync(taskDto, runBinding);
             }
+            return taskDtoCache.getFreshTaskFromTimestamp(timestamp)
+                    .filter(freshTaskDto -> freshTaskDto.getStatus() == TaskStatus.READY)
+                    .flatMap(freshTaskDto -> launchJobAsync(freshTaskDto, runBinding));
+        });
+    }
+
+    /**
+     * Sends the run message of a launch interrupted after its run was added, see {@link LaunchJournalReplayer}.
+     *
+     * @param taskDtoWithRun The task read again, holding the run added by the launch.
+     * @param runId The run added by the launch, as journaled.
+     * @return Whether the run message was sent, the task being set to ERROR otherwise.
+     */
+    public Mono<Boolean> resumeLaunch(final TaskDto taskDtoWithRun, final UUID runId, final String runBinding, final List<TaskParameterDto> parameters) {
+        return sendRunMessage(taskDtoWithRun, new TaskManagerAsyncService.NewRun(taskDtoWithRun, runId, true), runBinding, parameters);
+    }
+
+    /**
+     * Sets to ERROR the task of a launch interrupted after its run was added, see {@link LaunchJournalReplayer}.
+     */
+    public void compensateLaunch(final TaskDto taskDto) {
+        taskDtoCache.invalidate(taskDto);
+        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task on TS {}: launch interrupted by a shutdown", taskDto.getTimestamp()));
+        messagePublisher.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+    }
 
-            final boolean taskStatusUpdated = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-            if (taskStatusUpdated) {
-                jobLauncherEventsLogger.info("Task launched on TS {} using Gridcapa version {}", timestamp, gridcapaConfiguration.getVersion());
-                streamBridge.send(runBinding, taskDtoWithRun);
-            } else {
-                jobLauncherEventsLogger.warn("Failed to launch task on TS {}: could not set task's status to PENDING", taskDto.getTimestamp());
-                streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+    /**
+     * The task is only reported as launched once its run message was sent, and confirmed when
+     * job-launcher.publisher-confirms.enabled. The task is set to ERROR when the run message was refused or rejected,
+     * but is left PENDING when the run message was not confirmed in time, as it may have been delivered.
+     *
+     * @return Whether the run message was sent, confirmed or not.
+     */
+    private Mono<Boolean> sendRunMessage(final TaskDto taskDto, final TaskManagerAsyncService.NewRun newRun, final String runBinding, final List<TaskParameterDto> parameters) {
+        taskDtoCache.invalidate(taskDto);
+        if (!newRun.taskStatusUpdated()) {
+            LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task on TS {}: could not set task's status to PENDING", taskDto.getTimestamp()));
+            messagePublisher.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+            return Mono.just(false);
+        }
+        return launchMetrics.timeStage(LaunchMetrics.SEND_RUN_MESSAGE,
+                        Mono.defer(() -> messagePublisher.send(runBinding, runMessage(newRun, runBinding, parameters))))
+                .map(sendOutcome -> switch (sendOutcome) {
+                    case SENT -> {
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.info("Task launched on TS {} using Gridcapa version {}", taskDto.getTimestamp(), gridcapaConfiguration.getVersion()));
+                        yield true;
+                    }
+                    case UNCONFIRMED -> {
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Task launched on TS {} using Gridcapa version {}, but its run message was not confirmed by the broker in time", taskDto.getTimestamp(), gridcapaConfiguration.getVersion()));
+                        yield true;
+                    }
+                    case NOT_SENT -> {
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task on TS {}: run message not sent", taskDto.getTimestamp()));
+                        messagePublisher.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+                        yield false;
+                    }
+                });
+    }
+
+    /**
+     * Once its run was added, a launch hands its task over to {@link #sendRunMessage}, which sets it to ERROR if the
+     * run message is not sent, and leaves it PENDING if the run message may have been delivered.
+     */
+    private void abandonLaunch(final UUID launchId, final TaskDto taskDto, final boolean runAdded) {
+        launchJournal.recordCompleted(launchId);
+        if (!runAdded) {
+            taskDtoCache.invalidate(taskDto);
+            LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task on TS {}: launch failed or was cancelled while adding its run", taskDto.getTimestamp()));
+            messagePublisher.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+        }
+    }
+
+    private void handleRunNotAdded(final TaskDto taskDto) {
+        taskDtoCache.invalidate(taskDto);
+        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task on TS {}: could not add new run to the task", taskDto.getTimestamp()));
+        messagePublisher.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+    }
+
+    /**
+     * The run message in the format of the binding, see job-launcher.run-message.formats.
+     */
+    private Object runMessage(final TaskManagerAsyncService.NewRun newRun, final String runBinding, final List<TaskParameterDto> parameters) {
+        if (runMessageProperties.formatOf(runBinding) == RunMessage.Format.COMPACT) {
+            return MessageBuilder.withPayload(RunMessage.of(newRun.taskDtoWithRun(), newRun.runId(), parameters))
+                    .setHeader(RunMessage.FORMAT_HEADER, RunMessage.Format.COMPACT.name())
+                    .build();
+        }
+        return withParameters(newRun.taskDtoWithRun(), parameters);
+    }
+
+    private static TaskDto withParameters(final TaskDto taskDtoWithRun, final List<TaskParameterDto> parameters) {
+        if (parameters != null && !parameters.isEmpty()) {
+            if (taskDtoWithRun instanceof LeanTaskDto leanTaskDtoWithRun) {
+                return leanTaskDtoWithRun.withParameters(parameters);
             }
-        } else {
-            jobLauncherEventsLogger.warn("Failed to launch task on TS {}: could not add new run to the task", taskDto.getTimestamp());
-            streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+            return new TaskDto(taskDtoWithRun.getId(), taskDtoWithRun.getTimestamp(), taskDtoWithRun.getStatus(), taskDtoWithRun.getInputs(), taskDtoWithRun.getAvailableInputs(), taskDtoWithRun.getOutputs(), taskDtoWithRun.getProcessEvents(), taskDtoWithRun.getRunHistory(), parameters);
         }
+        return taskDtoWithRun;
     }
 
-    public void stopJob(final UUID runId, final TaskDto taskDto, final String stopBinding) {
+    /**
+     * Requests interruption-server to interrupt the run, then notifies the stop and, once the stop message was sent,
+     * sets the task status to STOPPING. Nothing happens until the result is subscribed.
+     *
+     * @return True when the run was interrupted, even if the stop message was not confirmed, false when
+     * interruption-server could not be contacted. The stop and each of its stages are timed, see {@link LaunchMetrics}.
+     */
+    public Mono<Boolean> stopJob(final UUID runId, final TaskDto taskDto, final String stopBinding) {
         final String timestamp = taskDto.getTimestamp().toString();
-        jobLauncherEventsLogger.info("Stopping task with timestamp {}", timestamp);
-        final Optional<Boolean> interruptionOpt = interruptionServerService.interruptRun(runId, taskDto);
-        if (interruptionOpt.isPresent()) {
-            streamBridge.send(stopBinding, runId.toString());
-            taskManagerService.updateTaskStatus(timestamp, TaskStatus.STOPPING);
-        } else {
-            jobLauncherEventsLogger.warn("Failed to stop task on TS {}: could not contact interruption-server", taskDto.getTimestamp());
-        }
+        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.info("Stopping task with timestamp {}", timestamp));
+        return launchMetrics.timeStop(interruptionServerService.interruptRun(runId, taskDto)
+                .flatMap(interrupted -> launchMetrics.timeStage(LaunchMetrics.SEND_STOP_MESSAGE,
+                        Mono.defer(() -> messagePublisher.send(stopBinding, runId.toString()))))
+                .flatMap(sendOutcome -> {
+                    if (sendOutcome != MessagePublisher.SendOutcome.SENT) {
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Stop message of task on TS {} not confirmed by the broker", timestamp));
+                    }
+                    return taskManagerAsyncService.updateTaskStatus(timestamp, TaskStatus.STOPPING)
+                            .doOnNext(taskStatusUpdated -> taskDtoCache.invalidate(taskDto))
+                            .thenReturn(true);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to stop task on TS {}: could not contact interruption-server", taskDto.getTimestamp()));
+                    return false;
+                })));
     }
 }
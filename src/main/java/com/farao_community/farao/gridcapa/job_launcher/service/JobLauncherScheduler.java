@@ -11,15 +11,22 @@ import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -34,34 +41,76 @@ public class JobLauncherScheduler {
     private final JobLauncherConfigurationProperties jobLauncherConfigurationProperties;
     private final JobLauncherCommonService jobLauncherCommonService;
     private final TaskManagerService taskManagerService;
+    private final LaunchMetrics launchMetrics;
+    private final int launchConcurrency;
+    private final AtomicBoolean tickInProgress = new AtomicBoolean(false);
 
     public JobLauncherScheduler(JobLauncherConfigurationProperties jobLauncherConfigurationProperties,
                                 JobLauncherCommonService jobLauncherCommonService,
-                                TaskManagerService taskManagerService) {
+                                TaskManagerService taskManagerService,
+                                LaunchMetrics launchMetrics,
+                                @Value("${scheduler.launch-concurrency:4}") int launchConcurrency) {
         this.jobLauncherConfigurationProperties = jobLauncherConfigurationProperties;
         this.jobLauncherCommonService = jobLauncherCommonService;
         this.taskManagerService = taskManagerService;
+        this.launchMetrics = launchMetrics;
+        this.launchConcurrency = Math.max(1, launchConcurrency);
     }
 
+    /**
+     * Launches all READY tasks of the business date, at most scheduler.launch-concurrency at a time.
+     * A tick starting while the previous one is still launching tasks is skipped.
+     */
     @Scheduled(cron = "0 */${scheduler.frequency-in-minutes} ${scheduler.start-hour}-${scheduler.end-hour} * * *")
     void automaticTaskStart() {
-        final String startingDate = getStartingDate();
-        final Optional<TaskDto[]> taskDtosForBusinessDateOpt = taskManagerService.getTasksFromBusinessDate(startingDate);
-        if (taskDtosForBusinessDateOpt.isPresent()) {
-            for (TaskDto taskDto : taskDtosForBusinessDateOpt.get()) {
-                // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
-                // This should be done only once, as soon as the information to add in mdc is available.
-                MDC.put("gridcapa-task-id", taskDto.getId().toString());
-
-                if (taskDto.getStatus() == TaskStatus.READY) {
-                    jobLauncherCommonService.launchJob(taskDto, RUN_BINDING);
-                }
+        if (!tickInProgress.compareAndSet(false, true)) {
+            LOGGER.warn("Skipping automatic task launch: previous launch is still in progress");
+            return;
+        }
+        try {
+            final String startingDate = getStartingDate();
+            // Timed here rather than in TaskManagerService so that its retries are included
+            final Optional<TaskDto[]> taskDtosForBusinessDateOpt = launchMetrics.timeStage(LaunchMetrics.GET_TASKS,
+                            Mono.fromSupplier(() -> taskManagerService.getTasksFromBusinessDate(startingDate)).flatMap(Mono::justOrEmpty))
+                    .contextWrite(LaunchMetrics.withEntryPoint(LaunchArbiter.Caller.SCHEDULER))
+                    .blockOptional();
+            if (taskDtosForBusinessDateOpt.isPresent()) {
+                launchReadyTasks(startingDate, taskDtosForBusinessDateOpt.get());
+            } else {
+                LOGGER.error("Failed to launch tasks for date {}: could not retrieve tasks from the task-manager", startingDate);
             }
-        } else {
-            LOGGER.error("Failed to launch tasks for date {}: could not retrieve tasks from the task-manager", startingDate);
+        } finally {
+            tickInProgress.set(false);
         }
     }
 
+    private void launchReadyTasks(final String startingDate, final TaskDto[] taskDtos) {
+        final List<TaskDto> readyTaskDtos = Arrays.stream(taskDtos)
+                .filter(taskDto -> taskDto.getStatus() == TaskStatus.READY)
+                .toList();
+        if (readyTaskDtos.isEmpty()) {
+            return;
+        }
+        final Map<Boolean, Long> launchOutcomes = Flux.fromIterable(readyTaskDtos)
+                .flatMap(this::launchTask, launchConcurrency)
+                .collect(Collectors.partitioningBy(Boolean::booleanValue, Collectors.counting()))
+                .block();
+        LOGGER.info("Automatic launch for business date {}: {} task(s) launched, {} failed, {} not ready",
+                startingDate,
+                launchOutcomes == null ? 0 : launchOutcomes.get(true),
+                launchOutcomes == null ? 0 : launchOutcomes.get(false),
+                taskDtos.length - readyTaskDtos.size());
+    }
+
+    private Mono<Boolean> launchTask(final TaskDto taskDto) {
+        return Mono.defer(() -> jobLauncherCommonService.launchReadyTaskAsync(taskDto, RUN_BINDING, LaunchArbiter.Caller.SCHEDULER))
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    LOGGER.error("Automatic launch of task {} failed", taskDto.getId(), e);
+                    return Mono.just(false);
+                });
+    }
+
     String getStartingDate() {
         final OffsetDateTime startingDateTime = OffsetDateTime.now(ZoneId.of(jobLauncherConfigurationProperties.process().timezone()))
                 .plusDays(jobLauncherConfigurationProperties.process().daysToAdd());
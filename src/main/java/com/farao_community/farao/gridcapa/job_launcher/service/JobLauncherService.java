@@ -6,19 +6,21 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
 import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -28,18 +30,23 @@ public class JobLauncherService {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherService.class);
     private static final String RUN_BINDING = "run-task";
     private static final String STOP_BINDING = "stop-task";
-    private final CopyOnWriteArraySet<String> timestampsBeingLaunched = new CopyOnWriteArraySet<>();
 
     private final JobLauncherCommonService jobLauncherCommonService;
     private final Logger jobLauncherEventsLogger;
-    private final TaskManagerService taskManagerService;
+    private final TaskDtoCache taskDtoCache;
+    private final LaunchArbiter launchArbiter;
+    private final Duration launchTimeout;
 
     public JobLauncherService(JobLauncherCommonService jobLauncherCommonService,
                               Logger jobLauncherEventsLogger,
-                              TaskManagerService taskManagerService) {
+                              TaskDtoCache taskDtoCache,
+                              LaunchArbiter launchArbiter,
+                              JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
         this.jobLauncherCommonService = jobLauncherCommonService;
         this.jobLauncherEventsLogger = jobLauncherEventsLogger;
-        this.taskManagerService = taskManagerService;
+        this.taskDtoCache = taskDtoCache;
+        this.launchArbiter = launchArbiter;
+        this.launchTimeout = jobLauncherConfigurationProperties.launchTimeout();
     }
 
     /**
@@ -51,46 +58,60 @@ public class JobLauncherService {
      * correctly formed, it is just internal business logic that does not allow to launch the computation. If not
      * launched status will remain the same, if launched status will be changed to PENDING.
      *
+     * Task-manager requests, and the delays between their retries, do not hold the calling thread: the result is
+     * only available once the returned {@link Mono} completes.
+     * Concurrent launches of a same timestamp, from any entry point, are arbitrated by the {@link LaunchArbiter}.
+     * A launch not over within job-launcher.launch-timeout, waiting for a launch of the same timestamp included, is
+     * cancelled and fails with a {@link TimeoutException}.
+     *
      * @param timestamp: Task timestamp to be launched.
-     * @return False only when the timestamp does not exist. Otherwise, true whether computation is launched or not.
+     * @return False when the timestamp does not exist or the launch is rejected by the {@link LaunchArbiter}.
+     * Otherwise, true whether computation is launched or not.
      */
-    public boolean launchJob(final String timestamp, final List<TaskParameterDto> parameters) {
-        final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
-        LOGGER.info("Received order to launch task {}", sanifiedTimestamp);
-        LOGGER.info("Adding {} to tasks being launched.", sanifiedTimestamp);
-        final boolean timestampAdded = timestampsBeingLaunched.add(sanifiedTimestamp);
-        if (!timestampAdded) {
-            LOGGER.warn("Task {} already being launched, stopping this thread.", sanifiedTimestamp);
-            return false;
-        } else {
-            LOGGER.info("{} has been correctly added to tasks being launched.", sanifiedTimestamp);
-        }
-        final boolean result;
-        try {
-            final Optional<TaskDto> taskDtoOpt = taskManagerService.getTaskFromTimestamp(timestamp);
-            if (taskDtoOpt.isPresent()) {
-                final TaskDto taskDto = taskDtoOpt.get();
-                // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
-                // This should be done only once, as soon as the information to add in mdc is available.
-                MDC.put("gridcapa-task-id", taskDto.getId().toString());
-                if (isTaskReadyToBeLaunched(taskDto)) {
-                    jobLauncherCommonService.launchJob(taskDto, RUN_BINDING, parameters);
-                } else {
-                    jobLauncherEventsLogger.warn("Failed to launch task with timestamp {} because it is not ready yet", taskDto.getTimestamp());
-                }
-                result = true;
-            } else {
-                LOGGER.error("Failed to launch task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
-                result = false;
+    public Mono<Boolean> launchJob(final String timestamp, final List<TaskParameterDto> parameters) {
+        return launchJob(timestamp, parameters, LaunchProgressListener.NONE);
+    }
+
+    /**
+     * Same as {@link #launchJob(String, List)}, notifying the listener of each stage reached by the launch.
+     */
+    public Mono<Boolean> launchJob(final String timestamp, final List<TaskParameterDto> parameters, final LaunchProgressListener progressListener) {
+        return Mono.defer(() -> {
+            final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
+            LOGGER.info("Received order to launch task {}", sanifiedTimestamp);
+            return launchArbiter.arbitrate(timestamp, LaunchArbiter.Caller.MANUAL, queued -> Mono.defer(() -> getTaskToLaunch(timestamp, queued))
+                    .flatMap(taskDto -> {
+                        progressListener.onStage(LaunchStage.FETCHED, null);
+                        if (isTaskReadyToBeLaunched(taskDto)) {
+                            return jobLauncherCommonService.launchJobAsync(taskDto, RUN_BINDING, parameters, progressListener).thenReturn(true);
+                        }
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to launch task with timestamp {} because it is not ready yet", taskDto.getTimestamp()));
+                        progressListener.onStage(LaunchStage.NOT_READY, "Task status is " + taskDto.getStatus());
+                        return Mono.just(true);
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        LOGGER.error("Failed to launch task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
+                        progressListener.onStage(LaunchStage.FAILED, "Could not retrieve task from the task-manager");
+                        return false;
+                    }))
+                    .doOnError(e -> LOGGER.error("Exception occured while launching task with timestamp {}", sanifiedTimestamp)))
+                    .timeout(launchTimeout, Mono.error(() -> new TimeoutException("Launch did not complete within " + launchTimeout)));
+        });
+    }
+
+    /**
+     * The cache is only trusted to reject a task that is not ready: a task to be launched is always read again from
+     * task-manager, so that a run is never added to a task whose cached status is outdated. A launch queued behind
+     * another one never trusts the cache, as the previous launch changed the task status.
+     */
+    private Mono<TaskDto> getTaskToLaunch(final String timestamp, final boolean queued) {
+        if (!queued) {
+            final Optional<TaskDto> cachedTaskDto = taskDtoCache.getCachedTaskFromTimestamp(timestamp);
+            if (cachedTaskDto.isPresent() && !isTaskReadyToBeLaunched(cachedTaskDto.get())) {
+                return Mono.just(cachedTaskDto.get());
             }
-        } catch (final Exception e) {
-            LOGGER.error("Exception occured while launching task with timestamp {}", sanifiedTimestamp);
-            throw e;
-        } finally {
-            LOGGER.info("Removing {} from tasks being launched.", sanifiedTimestamp);
-            timestampsBeingLaunched.remove(sanifiedTimestamp);
         }
-        return result;
+        return taskDtoCache.getFreshTaskFromTimestamp(timestamp);
     }
 
     private static boolean isTaskReadyToBeLaunched(final TaskDto taskDto) {
@@ -100,29 +121,32 @@ public class JobLauncherService {
                 || taskDto.getStatus() == TaskStatus.INTERRUPTED;
     }
 
-    public boolean stopJob(final String timestamp, final UUID runId) {
-        final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
-        LOGGER.info("Received order to interrupt task {}", sanifiedTimestamp);
-        final Optional<TaskDto> taskDtoOpt = taskManagerService.getTaskFromTimestamp(timestamp);
-        if (taskDtoOpt.isPresent()) {
-            final TaskDto taskDto = taskDtoOpt.get();
-            // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
-            // This should be done only once, as soon as the information to add in mdc is available.
-            MDC.put("gridcapa-task-id", taskDto.getId().toString());
-
-            if (isTaskReadyToBeStopped(taskDto)) {
-                jobLauncherCommonService.stopJob(runId, taskDto, STOP_BINDING);
-            } else {
-                jobLauncherEventsLogger.warn("Failed to interrupt task with timestamp {} because it is not pending or running yet", taskDto.getTimestamp());
-            }
-            return true;
-        } else {
-            LOGGER.error("Failed to interrupt task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
-        }
-        return false;
+    /**
+     * The task to be stopped is always read again from task-manager: as task update events only refresh the cache in
+     * auto mode, a cached status could be outdated and let a finished task be set to STOPPING.
+     * A stop not over within job-launcher.launch-timeout is cancelled and fails with a {@link TimeoutException}.
+     */
+    public Mono<Boolean> stopJob(final String timestamp, final UUID runId) {
+        return Mono.defer(() -> {
+            final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
+            LOGGER.info("Received order to interrupt task {}", sanifiedTimestamp);
+            return taskDtoCache.getFreshTaskFromTimestamp(timestamp)
+                    .flatMap(taskDto -> {
+                        if (isTaskReadyToBeStopped(taskDto)) {
+                            return jobLauncherCommonService.stopJob(runId, taskDto, STOP_BINDING).thenReturn(true);
+                        }
+                        LoggingUtil.logWithTaskId(taskDto.getId(), () -> jobLauncherEventsLogger.warn("Failed to interrupt task with timestamp {} because it is not pending or running yet", taskDto.getTimestamp()));
+                        return Mono.just(true);
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        LOGGER.error("Failed to interrupt task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
+                        return false;
+                    }))
+                    .timeout(launchTimeout, Mono.error(() -> new TimeoutException("Stop did not complete within " + launchTimeout)));
+        }).contextWrite(LaunchMetrics.withEntryPoint(LaunchArbiter.Caller.MANUAL));
     }
 
-    private static boolean isTaskReadyToBeStopped(final TaskDto taskDto) {
+    static boolean isTaskReadyToBeStopped(final TaskDto taskDto) {
         return taskDto.getStatus() == TaskStatus.RUNNING
                 || taskDto.getStatus() == TaskStatus.PENDING;
     }
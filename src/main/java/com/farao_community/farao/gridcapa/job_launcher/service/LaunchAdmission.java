@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.LaunchQueueFullException;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Admission control in front of launches requested one timestamp at a time through /start/{timestamp}: at most
+ * job-launcher.launch-admission.max-in-flight launches are performed at a time, up to
+ * job-launcher.launch-admission.queue-capacity more wait for a slot in their order of arrival, and further launches
+ * are rejected right away instead of piling up, so that a flood of requests cannot exhaust the application.
+ */
+@Component
+public class LaunchAdmission {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchAdmission.class);
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final int maxAdmitted;
+    private final Duration retryAfter;
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Sinks.Many<AdmittedLaunch<?>> launchQueue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+
+    public LaunchAdmission(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, MeterRegistry meterRegistry) {
+        final JobLauncherConfigurationProperties.LaunchAdmissionProperties launchAdmission = jobLauncherConfigurationProperties.launchAdmission();
+        final int slotsCount = Math.max(1, launchAdmission.maxInFlight());
+        this.maxAdmitted = slotsCount + Math.max(0, launchAdmission.queueCapacity());
+        this.retryAfter = launchAdmission.retryAfter();
+        this.admittedCounter = outcomeCounter(meterRegistry, "admitted");
+        this.rejectedCounter = outcomeCounter(meterRegistry, "rejected");
+        this.queueWaitTimer = Timer.builder("job.launcher.launch.queue.wait")
+                .description("Time spent by admitted launches waiting for an in-flight slot")
+                .register(meterRegistry);
+        Gauge.builder("job.launcher.launch.queue.size", queued, AtomicInteger::get)
+                .description("Admitted launches waiting for an in-flight slot")
+                .register(meterRegistry);
+        launchQueue.asFlux()
+                .flatMap(AdmittedLaunch::run, slotsCount)
+                .subscribe();
+    }
+
+    /**
+     * Queues the launch, which is performed once an in-flight slot is free, even if nobody subscribed to its result.
+     *
+     * @return The result of the launch.
+     * @throws LaunchQueueFullException When the launch queue is full.
+     */
+    public <T> Mono<T> admit(final String timestamp, final Supplier<Mono<T>> launch) {
+        if (admitted.incrementAndGet() > maxAdmitted) {
+            admitted.decrementAndGet();
+            rejectedCounter.increment();
+            LOGGER.warn("Launch of task {} rejected: {} launches already in flight or queued", LoggingUtil.sanifyString(timestamp), maxAdmitted);
+            throw new LaunchQueueFullException("Launch queue is full", retryAfter);
+        }
+        admittedCounter.increment();
+        queued.incrementAndGet();
+        final AdmittedLaunch<T> admittedLaunch = new AdmittedLaunch<>(launch);
+        launchQueue.emitNext(admittedLaunch, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        return admittedLaunch.result.asMono();
+    }
+
+    private static Counter outcomeCounter(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("job.launcher.launch.admission")
+                .description("Launch requests by admission outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class AdmittedLaunch<T> {
+        private final Supplier<Mono<T>> launch;
+        private final long admittedAt = System.nanoTime();
+        private final Sinks.One<T> result = Sinks.one();
+
+        private AdmittedLaunch(final Supplier<Mono<T>> launch) {
+            this.launch = launch;
+        }
+
+        private Mono<Void> run() {
+            queued.decrementAndGet();
+            queueWaitTimer.record(System.nanoTime() - admittedAt, TimeUnit.NANOSECONDS);
+            return Mono.defer(launch)
+                    .materialize()
+                    .doOnNext(signal -> {
+                        // The slot is freed before the result is published, so that the caller can launch again
+                        admitted.decrementAndGet();
+                        if (signal.isOnNext()) {
+                            result.tryEmitValue(signal.get());
+                        } else if (signal.isOnError()) {
+                            result.tryEmitError(signal.getThrowable());
+                        } else {
+                            result.tryEmitEmpty();
+                        }
+                    })
+                    .then();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Arbitrates launches of a same timestamp requested concurrently, whichever their origin: manual, auto-trigger or
+ * scheduler. While a launch is in progress, other launches of its timestamp are handled according to
+ * job-launcher.launch-arbitration-policy, see {@link Policy}. Launches in progress are tracked without locks, along
+ * with their caller and start time, and are considered stuck after job-launcher.launch-stuck-after. The caller of a
+ * launch is its entry point in {@link LaunchMetrics}.
+ */
+@Component
+public class LaunchArbiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchArbiter.class);
+    private static final InFlightLaunch RELEASED = new InFlightLaunch(null, null, null);
+
+    private final Policy policy;
+    private final Duration stuckAfter;
+    private final Map<Object, InFlightLaunch> launchesInFlight = new ConcurrentHashMap<>();
+    private final Counter startedCounter;
+    private final Counter rejectedCounter;
+    private final Counter coalescedCounter;
+    private final Counter queuedCounter;
+
+    public LaunchArbiter(@Value("${job-launcher.launch-arbitration-policy:REJECT}") Policy policy,
+                         @Value("${job-launcher.launch-stuck-after:10m}") Duration stuckAfter,
+                         MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.stuckAfter = stuckAfter;
+        this.startedCounter = outcomeCounter(meterRegistry, "started");
+        this.rejectedCounter = outcomeCounter(meterRegistry, "rejected");
+        this.coalescedCounter = outcomeCounter(meterRegistry, "coalesced");
+        this.queuedCounter = outcomeCounter(meterRegistry, "queued");
+        Gauge.builder("job.launcher.launches.in-flight", launchesInFlight, Map::size)
+                .description("Timestamps being launched")
+                .register(meterRegistry);
+        Gauge.builder("job.launcher.launches.stuck", this, LaunchArbiter::stuckLaunchesCount)
+                .description("Timestamps being launched for longer than job-launcher.launch-stuck-after")
+                .register(meterRegistry);
+    }
+
+    public enum Caller {
+        MANUAL,
+        AUTO,
+        SCHEDULER
+    }
+
+    public enum Policy {
+        /**
+         * Other launches complete with false right away.
+         */
+        REJECT,
+        /**
+         * Other launches share the result of the launch in progress.
+         */
+        COALESCE,
+        /**
+         * The first other launch is queued and performed once the launch in progress is over, the next ones share
+         * its result.
+         */
+        QUEUE_ONE_BEHIND
+    }
+
+    /**
+     * Performs the launch unless another launch of this timestamp is in progress. The launch function receives true
+     * when the launch was queued behind another one, in which case the task it was requested for may have changed.
+     *
+     * @return The result of the launch, the one it was coalesced with, or false when rejected.
+     */
+    public Mono<Boolean> arbitrate(final String timestamp, final Caller caller, final Function<Boolean, Mono<Boolean>> launch) {
+        return Mono.defer(() -> {
+            final Object key = toKey(timestamp);
+            Mono<Boolean> result = tryArbitrate(key, timestamp, caller, launch);
+            while (result == null) {
+                // The launch in progress had just ended and its release was completed: retry against the next one, if any
+                result = tryArbitrate(key, timestamp, caller, launch);
+            }
+            return result;
+        });
+    }
+
+    private Mono<Boolean> tryArbitrate(final Object key, final String timestamp, final Caller caller, final Function<Boolean, Mono<Boolean>> launch) {
+        final InFlightLaunch newLaunch = newLaunch(key, timestamp, caller, Mono.defer(() -> launch.apply(false)));
+        final InFlightLaunch current = launchesInFlight.putIfAbsent(key, newLaunch);
+        if (current == null) {
+            startedCounter.increment();
+            return newLaunch.result;
+        }
+        final InFlightLaunch next = current.next.get();
+        if (next == RELEASED) {
+            completeRelease(key, current);
+            return null;
+        }
+        final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
+        switch (policy) {
+            case REJECT -> {
+                LOGGER.warn("Task {} already being launched by {} since {}, rejecting this launch", sanifiedTimestamp, current.caller, current.startTime);
+                rejectedCounter.increment();
+                return Mono.just(false);
+            }
+            case COALESCE -> {
+                LOGGER.info("Task {} already being launched, waiting for the result of this launch", sanifiedTimestamp);
+                coalescedCounter.increment();
+                return current.result;
+            }
+            default -> {
+                return queueBehind(key, current, next, sanifiedTimestamp, caller, launch);
+            }
+        }
+    }
+
+    private Mono<Boolean> queueBehind(final Object key, final InFlightLaunch current, final InFlightLaunch next, final String sanifiedTimestamp,
+                                      final Caller caller, final Function<Boolean, Mono<Boolean>> launch) {
+        if (next == null) {
+            final InFlightLaunch queuedLaunch = newLaunch(key, current.timestamp, caller, current.released.asMono()
+                    .then(Mono.defer(() -> launch.apply(true))));
+            if (current.next.compareAndSet(null, queuedLaunch)) {
+                LOGGER.info("Task {} already being launched, launching it again afterwards", sanifiedTimestamp);
+                queuedCounter.increment();
+                return queuedLaunch.result;
+            }
+        }
+        final InFlightLaunch queuedLaunch = current.next.get();
+        if (queuedLaunch == RELEASED) {
+            completeRelease(key, current);
+            return null;
+        }
+        LOGGER.info("Task {} already being launched and queued, waiting for the result of the queued launch", sanifiedTimestamp);
+        coalescedCounter.increment();
+        return queuedLaunch.result;
+    }
+
+    private InFlightLaunch newLaunch(final Object key, final String timestamp, final Caller caller, final Mono<Boolean> execution) {
+        final InFlightLaunch launch = new InFlightLaunch(key, timestamp, caller);
+        launch.result = execution
+                .contextWrite(LaunchMetrics.withEntryPoint(caller))
+                .defaultIfEmpty(false)
+                .doFinally(signalType -> release(launch))
+                .cache();
+        return launch;
+    }
+
+    /**
+     * Once a launch is over, the launch queued behind it, if any, takes its place and is performed even if nobody
+     * subscribed to it yet. Otherwise, the launch is marked as released so that no launch can be queued behind it anymore.
+     * The queued launch only starts once it has taken the place of the launch in progress.
+     */
+    private void release(final InFlightLaunch launch) {
+        if (launch.next.compareAndSet(null, RELEASED)) {
+            completeRelease(launch.key, launch);
+            launch.released.tryEmitEmpty();
+        } else {
+            final InFlightLaunch queuedLaunch = launch.next.get();
+            queuedLaunch.startTime = Instant.now();
+            launchesInFlight.replace(launch.key, launch, queuedLaunch);
+            launch.released.tryEmitEmpty();
+            queuedLaunch.result.onErrorResume(e -> Mono.empty()).subscribe();
+        }
+    }
+
+    /**
+     * Removes a released launch from the launches in progress, unless already done. Called by the launch itself and by
+     * any launch of its timestamp finding it released, so that none of them waits for another thread to remove it.
+     */
+    private void completeRelease(final Object key, final InFlightLaunch releasedLaunch) {
+        launchesInFlight.remove(key, releasedLaunch);
+    }
+
+    /**
+     * Launches in progress, oldest first.
+     */
+    public List<LaunchInFlight> getLaunchesInFlight() {
+        final Instant now = Instant.now();
+        return launchesInFlight.values().stream()
+                .map(launch -> new LaunchInFlight(launch.timestamp, launch.caller, launch.startTime,
+                        Duration.between(launch.startTime, now), isStuck(launch, now), isLaunchQueued(launch)))
+                .sorted(Comparator.comparing(LaunchInFlight::startTime))
+                .toList();
+    }
+
+    int launchesInFlightCount() {
+        return launchesInFlight.size();
+    }
+
+    private long stuckLaunchesCount() {
+        final Instant now = Instant.now();
+        return launchesInFlight.values().stream()
+                .filter(launch -> isStuck(launch, now))
+                .count();
+    }
+
+    private boolean isStuck(final InFlightLaunch launch, final Instant now) {
+        return !launch.startTime.plus(stuckAfter).isAfter(now);
+    }
+
+    private static boolean isLaunchQueued(final InFlightLaunch launch) {
+        final InFlightLaunch next = launch.next.get();
+        return next != null && next != RELEASED;
+    }
+
+    private static Object toKey(final String timestamp) {
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant();
+        } catch (DateTimeParseException e) {
+            return timestamp;
+        }
+    }
+
+    private static Counter outcomeCounter(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("job.launcher.launch.arbitration")
+                .description("Launch requests by arbitration outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param stuck Whether the launch has been in progress for longer than job-launcher.launch-stuck-after.
+     * @param launchQueued Whether another launch of the timestamp is queued behind this one.
+     */
+    public record LaunchInFlight(String timestamp, Caller caller, Instant startTime, Duration duration, boolean stuck, boolean launchQueued) {
+    }
+
+    private static final class InFlightLaunch {
+        private final Object key;
+        private final String timestamp;
+        private final Caller caller;
+        private final AtomicReference<InFlightLaunch> next = new AtomicReference<>();
+        private final Sinks.Empty<Void> released = Sinks.empty();
+        private volatile Instant startTime = Instant.now();
+        private Mono<Boolean> result;
+
+        private InFlightLaunch(final Object key, final String timestamp, final Caller caller) {
+            this.key = key;
+            this.timestamp = timestamp;
+            this.caller = caller;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only local journal of launch intents and their progress, so that a launch interrupted by a crash between
+ * adding its run and sending its run message can be resumed on next start, see {@link LaunchJournalReplayer}.
+ * <p>
+ * Each record is framed by its length and CRC32, so that a record torn by a crash is detected and ignored. Writes are
+ * confined to a single journal thread and synced in batches: a launch only waits for its intent to be synced, and
+ * every record written while a sync is in progress is covered by the next one. On start, and whenever the file grew
+ * by job-launcher.launch-journal.compact-above since, the journal is rewritten with the launches still open only.
+ * Nothing is journaled unless job-launcher.launch-journal.enabled.
+ */
+@Component
+public class LaunchJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchJournal.class);
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final boolean enabled;
+    private final Path path;
+    private final boolean fsync;
+    private final long compactAbove;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<UUID, LaunchIntent> openIntents = new ConcurrentHashMap<>();
+    private final List<LaunchIntent> intentsToReplay;
+    private final ExecutorService journalExecutor;
+    private final Timer syncTimer;
+    // Confined to the journal thread
+    private final List<Sinks.Empty<Void>> awaitingSync = new ArrayList<>();
+    private FileChannel channel;
+    private long compactedSize;
+    private boolean syncScheduled;
+
+    public LaunchJournal(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, MeterRegistry meterRegistry) {
+        final JobLauncherConfigurationProperties.LaunchJournalProperties launchJournal = jobLauncherConfigurationProperties.launchJournal();
+        this.enabled = launchJournal.enabled();
+        this.path = launchJournal.path().toAbsolutePath();
+        this.fsync = launchJournal.fsync();
+        this.compactAbove = launchJournal.compactAbove().toBytes();
+        this.syncTimer = Timer.builder("job.launcher.launch.journal.sync")
+                .description("Time spent syncing the launch journal to disk, for a batch of records")
+                .register(meterRegistry);
+        Gauge.builder("job.launcher.launch.journal.open", openIntents, Map::size)
+                .description("Journaled launches not completed yet")
+                .register(meterRegistry);
+        if (enabled) {
+            load();
+            this.intentsToReplay = List.copyOf(openIntents.values());
+            this.journalExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("launch-journal").daemon().factory());
+        } else {
+            this.intentsToReplay = List.of();
+            this.journalExecutor = null;
+        }
+    }
+
+    /**
+     * Records the intent to launch the task and waits for it to be synced to disk.
+     *
+     * @return The id of the launch, to record its progress.
+     */
+    public Mono<UUID> recordIntent(final TaskDto taskDto, final String runBinding, final List<TaskParameterDto> parameters) {
+        final UUID launchId = UUID.randomUUID();
+        if (!enabled) {
+            return Mono.just(launchId);
+        }
+        final JournalEntry entry = new JournalEntry(EntryType.INTENT, launchId, taskDto.getId(), taskDto.getTimestamp().toString(),
+                runBinding, parameters == null || parameters.isEmpty() ? null : parameters, null);
+        return append(entry, true).thenReturn(launchId);
+    }
+
+    /**
+     * Records that the run of the launch was added, without waiting for it to be synced.
+     */
+    public void recordRunAdded(final UUID launchId, final UUID runId) {
+        if (enabled) {
+            append(new JournalEntry(EntryType.RUN_ADDED, launchId, null, null, null, null, runId), false);
+        }
+    }
+
+    /**
+     * Records that the launch is over, whether its run message was sent or its task set to ERROR, without waiting
+     * for it to be synced. A crash before the sync may therefore lead to its run message being sent again on next start.
+     */
+    public void recordCompleted(final UUID launchId) {
+        if (enabled) {
+            append(new JournalEntry(EntryType.COMPLETED, launchId, null, null, null, null, null), false);
+        }
+    }
+
+    /**
+     * Launches still open when the journal was loaded, i.e. interrupted by the last shutdown.
+     */
+    List<LaunchIntent> getIntentsToReplay() {
+        return intentsToReplay;
+    }
+
+    private Mono<Void> append(final JournalEntry entry, final boolean awaitSync) {
+        final Sinks.Empty<Void> synced = Sinks.empty();
+        try {
+            journalExecutor.execute(() -> write(entry, awaitSync ? synced : null));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Launch journal closed, launch {} not journaled", entry.launchId());
+            return Mono.empty();
+        }
+        return awaitSync ? synced.asMono() : Mono.empty();
+    }
+
+    private void write(final JournalEntry entry, final Sinks.Empty<Void> synced) {
+        try {
+            apply(entry);
+            final ByteBuffer record = encode(entry);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (synced != null) {
+                awaitingSync.add(synced);
+            }
+            if (channel.size() > compactedSize + compactAbove) {
+                compact();
+                releaseAwaitingSync();
+            } else if (!fsync) {
+                releaseAwaitingSync();
+            } else if (!syncScheduled) {
+                scheduleSync();
+            }
+        } catch (IOException e) {
+            // The journal is a safety net: the launch goes on without it
+            LOGGER.error("Could not write launch {} to journal {}", entry.launchId(), path, e);
+            if (synced != null) {
+                synced.tryEmitEmpty();
+            }
+        }
+    }
+
+    private void scheduleSync() {
+        syncScheduled = true;
+        try {
+            journalExecutor.execute(this::sync);
+        } catch (RejectedExecutionException e) {
+            // Closing: records written so far are synced right away
+            sync();
+        }
+    }
+
+    private void sync() {
+        syncScheduled = false;
+        final long start = System.nanoTime();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            LOGGER.error("Could not sync launch journal {}", path, e);
+        }
+        syncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        releaseAwaitingSync();
+    }
+
+    private void releaseAwaitingSync() {
+        awaitingSync.forEach(Sinks.Empty::tryEmitEmpty);
+        awaitingSync.clear();
+    }
+
+    private void apply(final JournalEntry entry) {
+        switch (entry.type()) {
+            case INTENT -> openIntents.put(entry.launchId(), new LaunchIntent(entry.launchId(), entry.taskId(), entry.timestamp(),
+                    entry.runBinding(), Objects.requireNonNullElse(entry.parameters(), List.of()), null));
+            case RUN_ADDED -> openIntents.computeIfPresent(entry.launchId(), (launchId, intent) -> new LaunchIntent(launchId, intent.taskId(),
+                    intent.timestamp(), intent.runBinding(), intent.parameters(), entry.runId()));
+            case COMPLETED -> openIntents.remove(entry.launchId());
+        }
+    }
+
+    private void load() {
+        try {
+            Files.createDirectories(path.getParent());
+            if (Files.exists(path)) {
+                final ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(path));
+                while (journal.hasRemaining()) {
+                    final JournalEntry entry = decode(journal);
+                    if (entry == null) {
+                        LOGGER.warn("Torn or corrupted record at offset {} of launch journal {}, ignoring the rest of the journal", journal.position(), path);
+                        break;
+                    }
+                    apply(entry);
+                }
+            }
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load launch journal " + path, e);
+        }
+    }
+
+    /**
+     * Rewrites the journal with the open launches only, synced before replacing the journal.
+     */
+    private void compact() throws IOException {
+        final Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel compactedChannel = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (LaunchIntent intent : openIntents.values()) {
+                writeFully(compactedChannel, encode(new JournalEntry(EntryType.INTENT, intent.launchId(), intent.taskId(), intent.timestamp(),
+                        intent.runBinding(), intent.parameters().isEmpty() ? null : intent.parameters(), null)));
+                if (intent.runId() != null) {
+                    writeFully(compactedChannel, encode(new JournalEntry(EntryType.RUN_ADDED, intent.launchId(), null, null, null, null, intent.runId())));
+                }
+            }
+            compactedChannel.force(true);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        compactedSize = channel.size();
+    }
+
+    private static void writeFully(final FileChannel fileChannel, final ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            fileChannel.write(record);
+        }
+    }
+
+    private ByteBuffer encode(final JournalEntry entry) throws IOException {
+        final byte[] payload = objectMapper.writeValueAsBytes(entry);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+    }
+
+    /**
+     * @return The next record, or null when it is torn or corrupted.
+     */
+    private JournalEntry decode(final ByteBuffer journal) {
+        if (journal.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        final int length = journal.getInt();
+        final int expectedCrc = journal.getInt();
+        if (length < 0 || length > journal.remaining()) {
+            return null;
+        }
+        final byte[] payload = new byte[length];
+        journal.get(payload);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, JournalEntry.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (journalExecutor == null) {
+            return;
+        }
+        journalExecutor.shutdown();
+        if (journalExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close launch journal {}", path, e);
+            }
+        }
+    }
+
+    /**
+     * @param runId Id of the run added by the launch, null when it is not known to be added.
+     */
+    public record LaunchIntent(UUID launchId, UUID taskId, String timestamp, String runBinding, List<TaskParameterDto> parameters, UUID runId) {
+    }
+
+    enum EntryType {
+        INTENT,
+        RUN_ADDED,
+        COMPLETED
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record JournalEntry(EntryType type, UUID launchId, UUID taskId, String timestamp, String runBinding, List<TaskParameterDto> parameters, UUID runId) {
+    }
+}
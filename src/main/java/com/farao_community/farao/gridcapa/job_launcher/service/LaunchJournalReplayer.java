@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Once the application is ready, resumes the launches the {@link LaunchJournal} found open, i.e. interrupted by the
+ * last shutdown. Each task is read again from task-manager: a task still PENDING with the run added by the launch
+ * had its run added but no run message sent. Such a launch is completed, its run message being sent, or compensated,
+ * its task being set to ERROR, according to job-launcher.launch-journal.replay. A launch whose run message cannot be
+ * sent when completing it has failed, its task being set to ERROR too. Other launches have nothing left to
+ * do. A launch whose run was not journaled cannot tell whether a PENDING task is its own: it is left unresolved, for
+ * an operator to check, rather than risking a second run message. Launches whose task cannot be read are kept open
+ * until next start.
+ */
+@Component
+public class LaunchJournalReplayer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchJournalReplayer.class);
+
+    private final LaunchJournal launchJournal;
+    private final JobLauncherCommonService jobLauncherCommonService;
+    private final TaskDtoCache taskDtoCache;
+    private final ReplayPolicy replayPolicy;
+    private final Map<ReplayOutcome, Counter> outcomeCounters = new EnumMap<>(ReplayOutcome.class);
+
+    public LaunchJournalReplayer(LaunchJournal launchJournal, JobLauncherCommonService jobLauncherCommonService, TaskDtoCache taskDtoCache,
+                                 JobLauncherConfigurationProperties jobLauncherConfigurationProperties, MeterRegistry meterRegistry) {
+        this.launchJournal = launchJournal;
+        this.jobLauncherCommonService = jobLauncherCommonService;
+        this.taskDtoCache = taskDtoCache;
+        this.replayPolicy = jobLauncherConfigurationProperties.launchJournal().replay();
+        for (ReplayOutcome outcome : ReplayOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("job.launcher.launch.journal.replayed")
+                    .description("Launches interrupted by the last shutdown, by replay outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public enum ReplayPolicy {
+        /**
+         * The run message of the launch is sent.
+         */
+        COMPLETE,
+        /**
+         * The task of the launch is set to ERROR.
+         */
+        COMPENSATE
+    }
+
+    public enum ReplayOutcome {
+        COMPLETED,
+        /**
+         * The run message could not be sent: the task was set to ERROR.
+         */
+        FAILED,
+        COMPENSATED,
+        NOTHING_TO_RESUME,
+        /**
+         * The task is PENDING but the run of the launch is unknown: nothing is sent, an operator has to check the task.
+         */
+        UNRESOLVED,
+        KEPT
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (!launchJournal.getIntentsToReplay().isEmpty()) {
+            LOGGER.warn("{} launches interrupted by the last shutdown, resuming them", launchJournal.getIntentsToReplay().size());
+            replay().subscribe();
+        }
+    }
+
+    /**
+     * Launches are resumed one at a time, in no particular order.
+     */
+    Flux<ReplayOutcome> replay() {
+        return Flux.fromIterable(launchJournal.getIntentsToReplay())
+                .concatMap(this::replay);
+    }
+
+    private Mono<ReplayOutcome> replay(final LaunchJournal.LaunchIntent intent) {
+        final String sanifiedTimestamp = LoggingUtil.sanifyString(intent.timestamp());
+        return taskDtoCache.getFreshTaskFromTimestamp(intent.timestamp())
+                .flatMap(taskDto -> resume(intent, taskDto))
+                .map(outcome -> {
+                    LOGGER.info("Launch {} of task {} interrupted by the last shutdown: {}", intent.launchId(), sanifiedTimestamp, outcome);
+                    launchJournal.recordCompleted(intent.launchId());
+                    return outcome;
+                })
+                .onErrorResume(e -> {
+                    LOGGER.error("Could not resume launch {} of task {}", intent.launchId(), sanifiedTimestamp, e);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    LOGGER.warn("Launch {} of task {} interrupted by the last shutdown kept until next start: task could not be read", intent.launchId(), sanifiedTimestamp);
+                    return ReplayOutcome.KEPT;
+                }))
+                .doOnNext(outcome -> outcomeCounters.get(outcome).increment());
+    }
+
+    private Mono<ReplayOutcome> resume(final LaunchJournal.LaunchIntent intent, final TaskDto taskDto) {
+        if (taskDto.getStatus() != TaskStatus.PENDING
+                || intent.runId() != null && !Objects.equals(intent.runId(), TaskManagerAsyncService.getLatestRunId(taskDto))) {
+            return Mono.just(ReplayOutcome.NOTHING_TO_RESUME);
+        }
+        if (intent.runId() == null) {
+            LOGGER.error("Launch {} of task {} interrupted by the last shutdown is unresolved: the task is PENDING but the run of the launch is unknown, check whether it runs or set it to ERROR",
+                    intent.launchId(), LoggingUtil.sanifyString(intent.timestamp()));
+            return Mono.just(ReplayOutcome.UNRESOLVED);
+        }
+        if (replayPolicy == ReplayPolicy.COMPENSATE) {
+            jobLauncherCommonService.compensateLaunch(taskDto);
+            return Mono.just(ReplayOutcome.COMPENSATED);
+        }
+        return jobLauncherCommonService.resumeLaunch(taskDto, intent.runId(), intent.runBinding(), intent.parameters())
+                .map(messageSent -> messageSent ? ReplayOutcome.COMPLETED : ReplayOutcome.FAILED);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the launch and stop pipelines, stage by stage, tagged by entry point (manual, auto or scheduler) and
+ * outcome, along with the retries and fallbacks of the requests to task-manager and interruption-server. The entry
+ * point is read from the Reactor context of the pipeline, see {@link #withEntryPoint(LaunchArbiter.Caller)}, and is
+ * "other" when not set.
+ */
+@Component
+public class LaunchMetrics {
+    public static final String GET_TASK = "get-task";
+    public static final String GET_TASKS = "get-tasks";
+    public static final String ADD_RUN = "add-run";
+    public static final String ADD_RUN_WITH_PENDING_STATUS = "add-run-with-pending-status";
+    public static final String UPDATE_STATUS = "update-status";
+    public static final String INTERRUPT_RUN = "interrupt-run";
+    public static final String SEND_RUN_MESSAGE = "send-run-message";
+    public static final String SEND_STOP_MESSAGE = "send-stop-message";
+
+    private static final String ENTRY_POINT_KEY = LaunchMetrics.class.getName() + ".entry-point";
+    private static final String OTHER_ENTRY_POINT = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    public LaunchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Context to write in a launch or stop pipeline so that its stages are tagged with the given entry point.
+     */
+    public static Context withEntryPoint(final LaunchArbiter.Caller caller) {
+        return Context.of(ENTRY_POINT_KEY, caller.name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Times a stage of a launch or stop pipeline, from subscription to completion. A stage completing with false or
+     * empty is recorded with the failure or empty outcome respectively, a message sent but not confirmed in time with
+     * the unconfirmed outcome, see {@link MessagePublisher.SendOutcome}. A cancelled stage is not recorded.
+     */
+    public <T> Mono<T> timeStage(final String stage, final Mono<T> stageResult) {
+        return time("job.launcher.stage", "Stages of launches and stops, task-manager and interruption-server retries included",
+                Tags.of("stage", stage), stageResult);
+    }
+
+    /**
+     * Times a launch, from adding its run to sending its run message.
+     */
+    public Mono<Boolean> timeLaunch(final Mono<Boolean> launchResult) {
+        return time("job.launcher.launch", "Launches, from adding their run to sending their run message", Tags.empty(), launchResult);
+    }
+
+    /**
+     * Times a stop, from interrupting its run to setting its task to STOPPING.
+     */
+    public Mono<Boolean> timeStop(final Mono<Boolean> stopResult) {
+        return time("job.launcher.stop", "Stops, from interrupting their run to setting their task to STOPPING", Tags.empty(), stopResult);
+    }
+
+    public void recordRetry(final String request) {
+        Counter.builder("job.launcher.request.retries")
+                .description("Attempts of task-manager and interruption-server requests after a failed one")
+                .tag("request", request)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordFallback(final String request) {
+        Counter.builder("job.launcher.request.fallbacks")
+                .description("Task-manager and interruption-server requests given up after all their attempts failed")
+                .tag("request", request)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private <T> Mono<T> time(final String name, final String description, final Tags tags, final Mono<T> result) {
+        return Mono.deferContextual(context -> {
+            final long start = System.nanoTime();
+            final Tags entryPointTags = tags.and("entry-point", entryPointOf(context));
+            return result
+                    .doOnSuccess(value -> record(name, description, entryPointTags.and("outcome", outcomeOf(value)), start))
+                    .doOnError(e -> record(name, description, entryPointTags.and("outcome", "error"), start));
+        });
+    }
+
+    private void record(final String name, final String description, final Tags tags, final long start) {
+        Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String entryPointOf(final ContextView context) {
+        return context.getOrDefault(ENTRY_POINT_KEY, OTHER_ENTRY_POINT);
+    }
+
+    private static String outcomeOf(final Object value) {
+        if (value == null) {
+            return "empty";
+        }
+        if (value == MessagePublisher.SendOutcome.UNCONFIRMED) {
+            return "unconfirmed";
+        }
+        return Boolean.FALSE.equals(value) || value == MessagePublisher.SendOutcome.NOT_SENT ? "failure" : "success";
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+/**
+ * Notified of each stage reached by a launch, possibly from task-manager client threads.
+ */
+@FunctionalInterface
+public interface LaunchProgressListener {
+    LaunchProgressListener NONE = (stage, detail) -> { };
+
+    /**
+     * @param detail Why the launch failed or was not performed, null otherwise.
+     */
+    void onStage(LaunchStage stage, String detail);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+/**
+ * Progress of a launch, in order. MESSAGE_SENT and the stages after it are final.
+ */
+public enum LaunchStage {
+    ACCEPTED,
+    FETCHED,
+    RUN_ADDED,
+    PENDING_SET,
+    MESSAGE_SENT,
+    /**
+     * The task status does not enable to launch it.
+     */
+    NOT_READY,
+    /**
+     * Another launch of the task was in progress, see {@link LaunchArbiter}.
+     */
+    REJECTED,
+    /**
+     * The launch shared the result of another launch of the task in progress, see {@link LaunchArbiter}.
+     */
+    COALESCED,
+    FAILED;
+
+    public boolean isFinal() {
+        return compareTo(MESSAGE_SENT) >= 0;
+    }
+
+    /**
+     * Final stage of a launch which did not reach one by itself, its arbitration against another launch of the same
+     * task having decided its outcome.
+     */
+    public static LaunchStage arbitrated(final boolean launched) {
+        return launched ? COALESCED : REJECTED;
+    }
+}
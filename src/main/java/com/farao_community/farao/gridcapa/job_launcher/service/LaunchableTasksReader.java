@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads a task-manager array of tasks token by token, keeping for each task only what is needed to launch it:
+ * id, timestamp, status and inputs. Other fields, processEvents first among them, are skipped without being bound,
+ * so they are never held in memory. Returned tasks have empty lists in place of the skipped fields.
+ */
+final class LaunchableTasksReader {
+    private static final TypeReference<List<ProcessFileDto>> PROCESS_FILES_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper objectMapper;
+
+    LaunchableTasksReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    TaskDto[] read(final InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of tasks");
+            }
+            final List<TaskDto> taskDtos = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                taskDtos.add(readTask(parser));
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a task or the end of the array of tasks");
+            }
+            return taskDtos.toArray(TaskDto[]::new);
+        }
+    }
+
+    private static TaskDto readTask(final JsonParser parser) throws IOException {
+        UUID id = null;
+        OffsetDateTime timestamp = null;
+        TaskStatus status = null;
+        List<ProcessFileDto> inputs = List.of();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "id" -> id = parser.readValueAs(UUID.class);
+                case "timestamp" -> timestamp = parser.readValueAs(OffsetDateTime.class);
+                case "status" -> status = parser.readValueAs(TaskStatus.class);
+                case "inputs" -> inputs = parser.readValueAs(PROCESS_FILES_TYPE);
+                default -> parser.skipChildren();
+            }
+        }
+        return new TaskDto(id, timestamp, status, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
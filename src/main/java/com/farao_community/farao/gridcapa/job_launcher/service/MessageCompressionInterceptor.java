@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips the payload of outbound messages larger than job-launcher.message-compression.compress-above, once converted
+ * to the content type of their binding, and sets their content encoding accordingly. Applied to the bindings listed in
+ * job-launcher.message-compression.bindings, whose consumers must support it.
+ */
+public class MessageCompressionInterceptor implements ChannelInterceptor {
+    public static final String GZIP = "gzip";
+
+    private final long compressAbove;
+
+    public MessageCompressionInterceptor(final DataSize compressAbove) {
+        this.compressAbove = compressAbove.toBytes();
+    }
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+        if (!(message.getPayload() instanceof byte[] payload)
+                || payload.length <= compressAbove
+                || message.getHeaders().containsKey(AmqpHeaders.CONTENT_ENCODING)) {
+            return message;
+        }
+        return MessageBuilder.withPayload(gzip(payload))
+                .copyHeaders(message.getHeaders())
+                .setHeader(AmqpHeaders.CONTENT_ENCODING, GZIP)
+                .build();
+    }
+
+    private static byte[] gzip(final byte[] payload) {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the messages of the job launcher: run and stop messages and task status updates.
+ * <p>
+ * When job-launcher.publisher-confirms.enabled, each message carries a {@link CorrelationData} completed by the
+ * binder once the broker confirmed or rejected it, and is considered sent only once confirmed. Confirms are awaited
+ * without holding a thread, so that launches performed concurrently, e.g. on a scheduler tick, keep many messages
+ * outstanding and the broker confirms them in batches. A message not confirmed within
+ * job-launcher.publisher-confirms.timeout is unconfirmed: it may as well have been delivered. This requires the
+ * connection factory to be in correlated confirm mode, which is checked on start, and the producers to use the
+ * confirm header, see application.yml.
+ */
+@Component
+public class MessagePublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessagePublisher.class);
+    private static final String CORRELATED_CONFIRM_TYPE = "correlated";
+
+    /**
+     * Outcome of sending a message.
+     */
+    public enum SendOutcome {
+        /**
+         * Sent, and confirmed by the broker when publisher confirms are enabled.
+         */
+        SENT,
+        /**
+         * Refused by the binder or rejected by the broker.
+         */
+        NOT_SENT,
+        /**
+         * Sent, but neither confirmed nor rejected by the broker within job-launcher.publisher-confirms.timeout.
+         */
+        UNCONFIRMED
+    }
+
+    private final StreamBridge streamBridge;
+    private final boolean confirmsEnabled;
+    private final Duration confirmTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler launchScheduler;
+    private final AtomicInteger outstandingConfirms = new AtomicInteger();
+
+    public MessagePublisher(StreamBridge streamBridge,
+                            @Value("${job-launcher.publisher-confirms.enabled:false}") boolean confirmsEnabled,
+                            @Value("${spring.rabbitmq.publisher-confirm-type:none}") String confirmType,
+                            @Value("${job-launcher.publisher-confirms.timeout:10s}") Duration confirmTimeout,
+                            MeterRegistry meterRegistry,
+                            @Qualifier("launchScheduler") Scheduler launchScheduler) {
+        if (confirmsEnabled && !CORRELATED_CONFIRM_TYPE.equalsIgnoreCase(confirmType)) {
+            throw new IllegalStateException("job-launcher.publisher-confirms.enabled requires spring.rabbitmq.publisher-confirm-type to be correlated, not " + confirmType);
+        }
+        this.streamBridge = streamBridge;
+        this.confirmsEnabled = confirmsEnabled;
+        this.confirmTimeout = confirmTimeout;
+        this.meterRegistry = meterRegistry;
+        this.launchScheduler = launchScheduler;
+        Gauge.builder("job.launcher.publish.confirms.outstanding", outstandingConfirms, AtomicInteger::get)
+                .description("Messages sent and not confirmed by the broker yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends the payload, or the message with its headers, to the binding right away. The result can be ignored when the caller does not depend on the
+     * message being delivered, a message not confirmed being logged anyway. As the binder blocks while sending, it must not be called on the
+     * event loop threads of the HTTP client: launches and stops call it on the launch scheduler.
+     *
+     * @return {@link SendOutcome#SENT} once the message was sent, and confirmed by the broker when publisher confirms are enabled.
+     */
+    public Mono<SendOutcome> send(final String binding, final Object payload) {
+        if (!confirmsEnabled) {
+            return Mono.just(streamBridge.send(binding, payload) ? SendOutcome.SENT : SendOutcome.NOT_SENT);
+        }
+        final CorrelationData correlationData = new CorrelationData();
+        final MessageBuilder<?> messageBuilder = payload instanceof Message<?> payloadMessage
+                ? MessageBuilder.fromMessage(payloadMessage)
+                : MessageBuilder.withPayload(payload);
+        final Message<?> message = messageBuilder
+                .setHeader(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION, correlationData)
+                .build();
+        final long start = System.nanoTime();
+        if (!streamBridge.send(binding, message)) {
+            unsentCounter(binding).increment();
+            LOGGER.warn("Message to {} could not be sent", binding);
+            return Mono.just(SendOutcome.NOT_SENT);
+        }
+        outstandingConfirms.incrementAndGet();
+        final CompletableFuture<SendOutcome> confirmed = correlationData.getFuture()
+                .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((confirm, e) -> {
+                    outstandingConfirms.decrementAndGet();
+                    final String outcome;
+                    if (e != null) {
+                        outcome = e instanceof TimeoutException ? "unconfirmed" : "error";
+                    } else {
+                        outcome = confirm.isAck() ? "ack" : "nack";
+                    }
+                    confirmTimer(binding, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if ("ack".equals(outcome)) {
+                        return SendOutcome.SENT;
+                    }
+                    LOGGER.warn("Message to {} not confirmed by the broker: {}{}", binding, outcome,
+                            confirm != null && confirm.getReason() != null ? " (" + confirm.getReason() + ")" : "");
+                    return e instanceof TimeoutException ? SendOutcome.UNCONFIRMED : SendOutcome.NOT_SENT;
+                });
+        // Confirms complete on the threads of the AMQP connection, which must not send the next messages of the launch
+        return Mono.fromFuture(confirmed, true).publishOn(launchScheduler);
+    }
+
+    private Timer confirmTimer(final String binding, final String outcome) {
+        return Timer.builder("job.launcher.publish.confirm")
+                .description("Time from sending a message to its confirmation, or lack of, by the broker")
+                .tag("binding", binding)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter unsentCounter(final String binding) {
+        return Counter.builder("job.launcher.publish.unsent")
+                .description("Messages the binder failed to send")
+                .tag("binding", binding)
+                .register(meterRegistry);
+    }
+}
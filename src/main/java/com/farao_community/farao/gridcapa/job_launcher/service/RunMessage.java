@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact run message: only what a worker needs to perform the run, instead of the whole task with its run history,
+ * available inputs, outputs and process events. Sent to the run bindings whose format is
+ * {@link Format#COMPACT} in job-launcher.run-message.formats, with the {@link #FORMAT_HEADER} header so that
+ * consumers can tell it from a full task.
+ *
+ * @param runId The run added by the launch.
+ * @param inputs The inputs selected for the run.
+ */
+public record RunMessage(UUID taskId, OffsetDateTime timestamp, UUID runId, List<ProcessFileDto> inputs, List<TaskParameterDto> parameters) {
+    public static final String FORMAT_HEADER = "run-message-format";
+
+    public enum Format {
+        /**
+         * The whole task, as understood by every consumer.
+         */
+        FULL,
+        /**
+         * A {@link RunMessage}, for consumers supporting it.
+         */
+        COMPACT
+    }
+
+    /**
+     * @param runId The run added by the launch, as returned by task-manager, see {@link TaskManagerAsyncService.NewRun}.
+     * @param parameters Parameters of the launch, the ones of the task when null or empty.
+     */
+    static RunMessage of(final TaskDto taskDtoWithRun, final UUID runId, final List<TaskParameterDto> parameters) {
+        return new RunMessage(taskDtoWithRun.getId(), taskDtoWithRun.getTimestamp(), runId,
+                taskDtoWithRun.getInputs(), parameters != null && !parameters.isEmpty() ? parameters : taskDtoWithRun.getParameters());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Bounded cache of the tasks read from task-manager, keyed by task timestamp. Entries are populated by reads,
+ * refreshed by task update events in auto mode, and invalidated as soon as this instance changes a task status.
+ * Size and time-to-live are configured by job-launcher.task-cache.
+ */
+@Component
+public class TaskDtoCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskDtoCache.class);
+
+    private final TaskManagerAsyncService taskManagerAsyncService;
+    private final Cache<Instant, TaskDto> cache;
+
+    public TaskDtoCache(JobLauncherConfigurationProperties jobLauncherConfigurationProperties, TaskManagerAsyncService taskManagerAsyncService) {
+        final JobLauncherConfigurationProperties.TaskCacheProperties taskCache = jobLauncherConfigurationProperties.taskCache();
+        this.taskManagerAsyncService = taskManagerAsyncService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(taskCache.maxSize())
+                .expireAfterWrite(taskCache.timeToLive())
+                .build();
+    }
+
+    /**
+     * Returns the cached task for this timestamp if any, otherwise reads it from task-manager and caches it.
+     * Timestamps that cannot be parsed are always read from task-manager.
+     */
+    public Mono<TaskDto> getTaskFromTimestamp(final String timestamp) {
+        return Mono.defer(() -> getCachedTaskFromTimestamp(timestamp)
+                .map(Mono::just)
+                .orElseGet(() -> getFreshTaskFromTimestamp(timestamp)));
+    }
+
+    /**
+     * Returns the cached task for this timestamp if any, without reading it from task-manager otherwise.
+     */
+    public Optional<TaskDto> getCachedTaskFromTimestamp(final String timestamp) {
+        final Optional<TaskDto> cachedTaskDto = toKey(timestamp).map(cache::getIfPresent);
+        cachedTaskDto.ifPresent(taskDto -> LOGGER.debug("Task {} found in cache", LoggingUtil.sanifyString(timestamp)));
+        return cachedTaskDto;
+    }
+
+    /**
+     * Reads the task from task-manager, bypassing the cache, and caches the result.
+     */
+    public Mono<TaskDto> getFreshTaskFromTimestamp(final String timestamp) {
+        return taskManagerAsyncService.getTaskFromTimestamp(timestamp)
+                .doOnNext(this::update);
+    }
+
+    public void update(final TaskDto taskDto) {
+        if (taskDto.getTimestamp() != null) {
+            cache.put(taskDto.getTimestamp().toInstant(), taskDto);
+        }
+    }
+
+    public void invalidate(final TaskDto taskDto) {
+        if (taskDto.getTimestamp() != null) {
+            cache.invalidate(taskDto.getTimestamp().toInstant());
+        }
+    }
+
+    private static Optional<Instant> toKey(final String timestamp) {
+        try {
+            return Optional.of(OffsetDateTime.parse(timestamp).toInstant());
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.CircuitBreakerConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.RetryException;
+import com.farao_community.farao.gridcapa.job_launcher.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Task-manager requests of launches and stops, retried with the same retry.* properties as {@link TaskManagerService}
+ * but without holding any thread while waiting for task-manager, including between two attempts.
+ * Fallbacks complete the returned {@link Mono} empty, or with false for status updates. Requests made while launching
+ * or stopping a task are timed, retries included, see {@link LaunchMetrics}. Responses are published on the launch
+ * scheduler, so that launches never go on, sending messages or logging, on the event loop threads of the HTTP client.
+ */
+@Service
+public class TaskManagerAsyncService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskManagerAsyncService.class);
+    private static final String EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER = "Exception occurred during request to task-manager";
+    private static final String REQUESTING_URL_ATTEMPT = "Requesting URL: {} (#{} attempt)";
+
+    private final JobLauncherConfigurationProperties jobLauncherConfigurationProperties;
+    private final WebClient webClient;
+    private final RetryBackoffSpec retrySpec;
+    private final Map<String, Mono<TaskDto>> taskRequestsInFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedTaskRequestsCounter;
+    private final CircuitBreaker circuitBreaker;
+    private final LaunchMetrics launchMetrics;
+    private final Scheduler launchScheduler;
+
+    public TaskManagerAsyncService(JobLauncherConfigurationProperties jobLauncherConfigurationProperties,
+                                   WebClient jobLauncherWebClient,
+                                   RetryBackoffSpec jobLauncherRetrySpec,
+                                   MeterRegistry meterRegistry,
+                                   CircuitBreakerRegistry jobLauncherCircuitBreakerRegistry,
+                                   LaunchMetrics launchMetrics,
+                                   @Qualifier("launchScheduler") Scheduler launchScheduler) {
+        this.jobLauncherConfigurationProperties = jobLauncherConfigurationProperties;
+        this.launchMetrics = launchMetrics;
+        this.launchScheduler = launchScheduler;
+        this.webClient = jobLauncherWebClient;
+        this.retrySpec = jobLauncherRetrySpec;
+        this.circuitBreaker = jobLauncherCircuitBreakerRegistry.circuitBreaker(CircuitBreakerConfiguration.TASK_MANAGER);
+        this.coalescedTaskRequestsCounter = Counter.builder("job.launcher.task.requests.coalesced")
+                .description("Task reads served by a task-manager request already in flight for the same timestamp")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Concurrent reads of the same timestamp share a single task-manager request, retries included,
+     * and all receive its result. Unlike other failures, an open circuit is signalled as a
+     * {@link CallNotPermittedException} error rather than an empty result.
+     */
+    public Mono<TaskDto> getTaskFromTimestamp(final String timestamp) {
+        return launchMetrics.timeStage(LaunchMetrics.GET_TASK, Mono.defer(() -> {
+            final AtomicBoolean requestCreated = new AtomicBoolean();
+            final Mono<TaskDto> taskRequest = taskRequestsInFlight.computeIfAbsent(timestamp, key -> {
+                requestCreated.set(true);
+                return requestTaskFromTimestamp(key)
+                        .doFinally(signalType -> taskRequestsInFlight.remove(key))
+                        .cache();
+            });
+            if (!requestCreated.get()) {
+                coalescedTaskRequestsCounter.increment();
+            }
+            return taskRequest;
+        }));
+    }
+
+    private Mono<TaskDto> requestTaskFromTimestamp(final String timestamp) {
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp);
+        return withRetry(LaunchMetrics.GET_TASK, requestUrl, () -> webClient.get()
+                .uri(requestUrl)
+                .exchangeToMono(response -> getBodyFromResponse(response, TaskDto.class)))
+                .onErrorResume(e -> !(e instanceof CallNotPermittedException), e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.GET_TASK);
+                    LOGGER.error("Problem occurred while querying task-manager for timestamp {}", timestamp, e);
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<TaskDto[]> getTasksFromBusinessDate(final String startingDate) {
+        final String requestUrl = getTaskManagerBusinessDateUrl(startingDate);
+        return launchMetrics.timeStage(LaunchMetrics.GET_TASKS, withRetry(LaunchMetrics.GET_TASKS, requestUrl, () -> webClient.get()
+                .uri(requestUrl)
+                .exchangeToMono(response -> getBodyFromResponse(response, TaskDto[].class)))
+                .onErrorResume(e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.GET_TASKS);
+                    LOGGER.error("Problem occurred while querying task-manager for business date {}", startingDate, e);
+                    return Mono.empty();
+                }));
+    }
+
+    public Mono<TaskDto> addNewRunInTaskHistory(final String timestamp, final List<ProcessFileDto> inputs) {
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp) + "/runHistory";
+        return launchMetrics.timeStage(LaunchMetrics.ADD_RUN, withRetry(LaunchMetrics.ADD_RUN, requestUrl, () -> webClient.put()
+                .uri(requestUrl)
+                .bodyValue(inputs)
+                .exchangeToMono(response -> getBodyFromResponse(response, TaskDto.class)))
+                .onErrorResume(e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.ADD_RUN);
+                    LOGGER.error("Problem occurred while requesting task-manager to add a new run for timestamp {}", timestamp, e);
+                    return Mono.empty();
+                }));
+    }
+
+    /**
+     * Adds a new run to the task and sets its status to PENDING: with {@link #addNewRunInTaskHistory(String, List)}
+     * followed by {@link #updateTaskStatus(String, TaskStatus)} by default, or in a single task-manager request when
+     * job-launcher.combined-launch is enabled, once task-manager exposes it. Each request is timed as its own stage.
+     * Completes empty when the run could not be added.
+     */
+    public Mono<NewRun> addNewRunWithPendingStatus(final String timestamp, final List<ProcessFileDto> inputs) {
+        if (!jobLauncherConfigurationProperties.combinedLaunch()) {
+            return addNewRunThenSetPendingStatus(timestamp, inputs);
+        }
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp) + "/launch";
+        return launchMetrics.timeStage(LaunchMetrics.ADD_RUN_WITH_PENDING_STATUS, withRetry(LaunchMetrics.ADD_RUN_WITH_PENDING_STATUS, requestUrl, () -> webClient.put()
+                .uri(requestUrl)
+                .bodyValue(inputs)
+                .exchangeToMono(response -> getBodyFromResponse(response, TaskDto.class)))
+                .map(taskDtoWithRun -> NewRun.of(taskDtoWithRun, taskDtoWithRun.getStatus() == TaskStatus.PENDING))
+                .onErrorResume(e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.ADD_RUN_WITH_PENDING_STATUS);
+                    LOGGER.error("Problem occurred while requesting task-manager to launch timestamp {}", timestamp, e);
+                    return Mono.empty();
+                }));
+    }
+
+    private Mono<NewRun> addNewRunThenSetPendingStatus(final String timestamp, final List<ProcessFileDto> inputs) {
+        return addNewRunInTaskHistory(timestamp, inputs)
+                .flatMap(taskDtoWithRun -> updateTaskStatus(timestamp, TaskStatus.PENDING)
+                        .map(taskStatusUpdated -> NewRun.of(taskDtoWithRun, taskStatusUpdated)));
+    }
+
+    public Mono<Boolean> updateTaskStatus(final String timestamp, final TaskStatus taskStatus) {
+        final String requestUrl = getTaskStatusUpdateUrl(timestamp, taskStatus);
+        return launchMetrics.timeStage(LaunchMetrics.UPDATE_STATUS, withRetry(LaunchMetrics.UPDATE_STATUS, requestUrl, () -> webClient.put()
+                .uri(requestUrl)
+                .bodyValue(Map.of())
+                .exchangeToMono(response -> getBodyFromResponse(response, TaskDto.class)))
+                .map(taskDto -> true)
+                .onErrorResume(e -> {
+                    launchMetrics.recordFallback(LaunchMetrics.UPDATE_STATUS);
+                    LOGGER.error("Problem occurred while requesting task-manager a status update ({}) for timestamp {}", taskStatus, timestamp, e);
+                    return Mono.just(false);
+                }));
+    }
+
+    private <T> Mono<T> withRetry(final String requestName, final String requestUrl, final Supplier<Mono<T>> request) {
+        final String sanifiedUrl = LoggingUtil.sanifyString(requestUrl);
+        final AtomicInteger retryCount = new AtomicInteger();
+        final Mono<T> attempt = Mono.defer(() -> {
+            final int attemptRetryCount = retryCount.getAndIncrement();
+            if (attemptRetryCount > 0) {
+                launchMetrics.recordRetry(requestName);
+            }
+            LOGGER.info(REQUESTING_URL_ATTEMPT, sanifiedUrl, attemptRetryCount);
+            return request.get();
+        });
+        return attempt
+                .onErrorMap(e -> e instanceof WebClientException && !CircuitBreakerConfiguration.isClientError(e),
+                        e -> new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retrySpec)
+                .publishOn(launchScheduler);
+    }
+
+    private static <T> Mono<T> getBodyFromResponse(final ClientResponse response, final Class<T> bodyClass) {
+        if (response.statusCode().isSameCodeAs(HttpStatus.OK)) {
+            return response.bodyToMono(bodyClass)
+                    .switchIfEmpty(Mono.error(() -> new RetryException("Unexpected response from the task-manager")));
+        } else if (response.statusCode().is4xxClientError()) {
+            return response.createException().flatMap(Mono::error);
+        } else {
+            return response.releaseBody()
+                    .then(Mono.error(() -> new RetryException("Unexpected response from the task-manager")));
+        }
+    }
+
+    private String getTaskManagerTimestampUrl(final String timestamp) {
+        return jobLauncherConfigurationProperties.url().taskManagerTimestampUrl() + timestamp;
+    }
+
+    private String getTaskManagerBusinessDateUrl(final String startingDate) {
+        return jobLauncherConfigurationProperties.url().taskManagerBusinessDateUrl() + startingDate;
+    }
+
+    private String getTaskStatusUpdateUrl(final String timestamp, final TaskStatus taskStatus) {
+        return getTaskManagerTimestampUrl(timestamp) + "/status?status=" + taskStatus;
+    }
+
+    /**
+     * Id of the latest run of the task, i.e. the run just added when the task was returned by task-manager on adding
+     * a run, null when the task has no run.
+     */
+    static UUID getLatestRunId(final TaskDto taskDto) {
+        if (taskDto == null || taskDto.getRunHistory() == null) {
+            return null;
+        }
+        return taskDto.getRunHistory().stream()
+                .filter(run -> run.getExecutionDate() != null)
+                .max(Comparator.comparing(ProcessRunDto::getExecutionDate))
+                .map(ProcessRunDto::getId)
+                .orElse(null);
+    }
+
+    /**
+     * Task returned by task-manager once its new run is added, the id of this run, and whether the task status could
+     * be set to PENDING.
+     */
+    public record NewRun(TaskDto taskDtoWithRun, UUID runId, boolean taskStatusUpdated) {
+        static NewRun of(final TaskDto taskDtoWithRun, final boolean taskStatusUpdated) {
+            return new NewRun(taskDtoWithRun, getLatestRunId(taskDtoWithRun), taskStatusUpdated);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per task index of the trigger files already used by a run of the task. Each run of the task history is indexed once,
+ * the first time an update containing it is checked, so checking an update only costs a lookup per run and per trigger
+ * file. Tasks not checked for job-launcher.trigger-files-index.expire-after-access are evicted, as well as the least
+ * recently used ones beyond job-launcher.trigger-files-index.max-size; an evicted task is indexed again from its next update.
+ */
+@Component
+public class UsedTriggerFilesIndex {
+
+    private final Cache<UUID, TaskTriggerFiles> cache;
+
+    public UsedTriggerFilesIndex(JobLauncherConfigurationProperties jobLauncherConfigurationProperties) {
+        final JobLauncherConfigurationProperties.TriggerFilesIndexProperties triggerFilesIndex = jobLauncherConfigurationProperties.triggerFilesIndex();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(triggerFilesIndex.maxSize())
+                .expireAfterAccess(triggerFilesIndex.expireAfterAccess())
+                .build();
+    }
+
+    /**
+     * Whether every input of the task whose filetype is one of the trigger filetypes was used by a run of the task.
+     */
+    public boolean allTriggerFilesAlreadyUsed(final TaskDto taskDto, final List<String> triggerFiletypes) {
+        final List<TriggerFileKey> triggerFiles = taskDto.getInputs().stream()
+                .filter(file -> triggerFiletypes.contains(file.getFileType()))
+                .map(TriggerFileKey::of)
+                .toList();
+        final Set<String> triggerFiletypesSet = Set.copyOf(triggerFiletypes);
+        if (taskDto.getId() == null) {
+            return new TaskTriggerFiles(triggerFiletypesSet).index(taskDto.getRunHistory()).containsAll(triggerFiles);
+        }
+        final TaskTriggerFiles taskTriggerFiles = cache.asMap().compute(taskDto.getId(), (taskId, indexed) ->
+                indexed != null && indexed.triggerFiletypes.equals(triggerFiletypesSet) ? indexed : new TaskTriggerFiles(triggerFiletypesSet));
+        // A lock rather than a monitor, which would pin the carrier thread of a waiting virtual thread
+        taskTriggerFiles.lock.lock();
+        try {
+            return taskTriggerFiles.index(taskDto.getRunHistory()).containsAll(triggerFiles);
+        } finally {
+            taskTriggerFiles.lock.unlock();
+        }
+    }
+
+    long indexedTasksCount() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Identity of a file as seen by auto-trigger: a new version of a file has another path or modification date.
+     */
+    private record TriggerFileKey(String fileType, String filePath, String filename, OffsetDateTime lastModificationDate) {
+        static TriggerFileKey of(final ProcessFileDto file) {
+            return new TriggerFileKey(file.getFileType(), file.getFilePath(), file.getFilename(), file.getLastModificationDate());
+        }
+    }
+
+    private static final class TaskTriggerFiles {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<String> triggerFiletypes;
+        private final Set<UUID> indexedRunIds = new HashSet<>();
+        private final Set<TriggerFileKey> usedTriggerFiles = new HashSet<>();
+
+        private TaskTriggerFiles(final Set<String> triggerFiletypes) {
+            this.triggerFiletypes = triggerFiletypes;
+        }
+
+        private Set<TriggerFileKey> index(final List<ProcessRunDto> runHistory) {
+            for (ProcessRunDto run : runHistory) {
+                // Runs without id cannot be recognized in later updates, they are indexed each time
+                if (run.getId() == null || indexedRunIds.add(run.getId())) {
+                    run.getInputs().stream()
+                            .filter(file -> triggerFiletypes.contains(file.getFileType()))
+                            .map(TriggerFileKey::of)
+                            .forEach(usedTriggerFiles::add);
+                }
+            }
+            return usedTriggerFiles;
+        }
+    }
+}
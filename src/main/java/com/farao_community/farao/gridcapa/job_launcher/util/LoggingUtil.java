@@ -6,11 +6,17 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher.util;
 
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  * @author Marc Schwitzguébel {@literal <marc.schwitzguebel at rte-france.com>}
  */
 public final class LoggingUtil {
+    public static final String TASK_ID_MDC_KEY = "gridcapa-task-id";
+
     private LoggingUtil() {
         // Util class should not be instanciated
     }
@@ -20,4 +26,15 @@ public final class LoggingUtil {
                 ? "null"
                 : input.replaceAll("[\n\r]", "_");
     }
+
+    /**
+     * Logs with the task id as an extra field of logs MDC, to be able to match microservices logs with calculation
+     * tasks. The field is removed afterwards: reactive launches go on on threads shared by other tasks, whose logs
+     * must not be attributed to this one.
+     */
+    public static void logWithTaskId(final UUID taskId, final Runnable logging) {
+        try (MDC.MDCCloseable ignored = MDC.putCloseable(TASK_ID_MDC_KEY, taskId.toString())) {
+            logging.run();
+        }
+    }
 }
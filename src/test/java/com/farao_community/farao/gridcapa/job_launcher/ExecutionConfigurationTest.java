@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+
+class ExecutionConfigurationTest {
+    private final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration();
+
+    private static Thread launchThread(final Scheduler scheduler) {
+        try {
+            return Mono.fromCallable(Thread::currentThread).subscribeOn(scheduler).block(Duration.ofSeconds(5));
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void launchesRunOnPlatformThreadsByDefault() {
+        final Thread thread = launchThread(executionConfiguration.launchScheduler(false));
+
+        Assertions.assertThat(thread.isVirtual()).isFalse();
+        Assertions.assertThat(thread.getName()).startsWith("launch");
+    }
+
+    @Test
+    void launchesRunOnVirtualThreadsWhenEnabled() {
+        final Thread autoThread = launchThread(executionConfiguration.autoLaunchScheduler(true));
+        final Thread thread = launchThread(executionConfiguration.launchScheduler(true));
+
+        Assertions.assertThat(autoThread.isVirtual()).isTrue();
+        Assertions.assertThat(autoThread.getName()).startsWith("auto-launch-");
+        Assertions.assertThat(thread.isVirtual()).isTrue();
+        Assertions.assertThat(thread.getName()).startsWith("launch-");
+    }
+}
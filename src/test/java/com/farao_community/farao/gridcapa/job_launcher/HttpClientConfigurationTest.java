@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(properties = {
+    "job-launcher.url.connection.max-per-route=7",
+    "job-launcher.url.connection.max-total=13"
+})
+class HttpClientConfigurationTest {
+
+    @Autowired
+    private RestTemplate restTemplate;
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void restTemplateUsesPooledHttpClient() {
+        Assertions.assertThat(restTemplate.getRequestFactory()).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void connectionPoolIsConfiguredFromProperties() {
+        Assertions.assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(7);
+        Assertions.assertThat(connectionManager.getMaxTotal()).isEqualTo(13);
+    }
+
+    @Test
+    void connectionPoolMetricsAreRegistered() {
+        Assertions.assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").tag("httpclient", "job-launcher").gauge())
+                .isNotNull()
+                .satisfies(gauge -> Assertions.assertThat(gauge.value()).isEqualTo(13));
+    }
+}
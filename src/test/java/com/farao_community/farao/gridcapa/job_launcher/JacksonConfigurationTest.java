@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.json.LeanTaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.function.json.JsonMapper;
+
+import java.io.IOException;
+
+@SpringBootTest
+class JacksonConfigurationTest {
+    private static final String TASK_JSON = "{\"id\":\"1fdda469-53e9-4d63-a533-b935cffdd2f6\",\"status\":\"READY\",\"processEvents\":[{\"level\":\"INFO\",\"message\":\"event\"}]}";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void applicationObjectMapperReadsLeanTasks() throws IOException {
+        Assertions.assertThat(objectMapper.readValue(TASK_JSON, TaskDto.class)).isInstanceOf(LeanTaskDto.class);
+    }
+
+    @Test
+    void messagesMapperReadsAndWritesLeanTasks() throws IOException {
+        final TaskDto taskDto = jsonMapper.fromJson(TASK_JSON.getBytes(), TaskDto.class);
+
+        Assertions.assertThat(taskDto).isInstanceOf(LeanTaskDto.class);
+        Assertions.assertThat(objectMapper.readTree(jsonMapper.toJson(taskDto)).get("processEvents"))
+                .isEqualTo(objectMapper.readTree(TASK_JSON).get("processEvents"));
+    }
+}
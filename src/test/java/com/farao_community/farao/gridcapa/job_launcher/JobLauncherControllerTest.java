@@ -1,8 +1,14 @@
 package com.farao_community.farao.gridcapa.job_launcher;
 
+import com.farao_community.farao.gridcapa.job_launcher.service.AsyncLaunchService;
+import com.farao_community.farao.gridcapa.job_launcher.service.BulkLaunchService;
+import com.farao_community.farao.gridcapa.job_launcher.service.BulkStopService;
 import com.farao_community.farao.gridcapa.job_launcher.service.JobLauncherService;
+import com.farao_community.farao.gridcapa.job_launcher.service.LaunchStage;
 import com.farao_community.farao.gridcapa.task_manager.api.ParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -10,11 +16,23 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -28,14 +46,23 @@ class JobLauncherControllerTest {
     @MockitoBean
     private JobLauncherService jobLauncherService;
 
+    @MockitoBean
+    private AsyncLaunchService asyncLaunchService;
+
+    @MockitoBean
+    private BulkLaunchService bulkLaunchService;
+
+    @MockitoBean
+    private BulkStopService bulkStopService;
+
     @Test
     void testLaunchJobWithParametersOk() {
         final String timestamp = "2021-12-09T21:30";
         final List<ParameterDto> parameterDtoList = List.of(new ParameterDto("id", "name", 1, "type", "section", 1, "value", "default"));
         final ArgumentCaptor<List<TaskParameterDto>> listArgumentCaptor = ArgumentCaptor.forClass(List.class);
-        Mockito.when(jobLauncherService.launchJob(Mockito.eq(timestamp), listArgumentCaptor.capture())).thenReturn(true);
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(timestamp), listArgumentCaptor.capture())).thenReturn(Mono.just(true));
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtoList);
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtoList).block();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         Assertions.assertThat(listArgumentCaptor.getValue()).isNotEmpty();
@@ -44,9 +71,9 @@ class JobLauncherControllerTest {
     @Test
     void testLaunchJobWithoutParametersOk() {
         final String timestamp = "2021-12-09T21:30";
-        Mockito.when(jobLauncherService.launchJob(timestamp, List.of())).thenReturn(true);
+        Mockito.when(jobLauncherService.launchJob(timestamp, List.of())).thenReturn(Mono.just(true));
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of());
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of()).block();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
@@ -55,20 +82,107 @@ class JobLauncherControllerTest {
     void testLaunchJobNotFound() {
         final String timestamp = "2021-12-09T21:30";
         final List<ParameterDto> parameterDtoList = null;
-        Mockito.when(jobLauncherService.launchJob(timestamp, List.of())).thenReturn(false);
+        Mockito.when(jobLauncherService.launchJob(timestamp, List.of())).thenReturn(Mono.just(false));
+
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtoList).block();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testLaunchJobAsyncAccepted() {
+        final String timestamp = "2021-12-09T21:30";
+        final AsyncLaunchService.LaunchStatus accepted = new AsyncLaunchService.LaunchStatus(UUID.randomUUID(), timestamp, LaunchStage.ACCEPTED, null, Instant.now(), Instant.now());
+        Mockito.when(asyncLaunchService.submit(timestamp, List.of())).thenReturn(accepted);
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/job-launcher/start/" + timestamp);
+        request.setContextPath("/job-launcher");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        final ResponseEntity<AsyncLaunchService.LaunchStatus> response;
+        try {
+            response = jobLauncherController.launchJobAsync(timestamp, null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        Assertions.assertThat(response.getHeaders().getLocation()).isEqualTo(URI.create("http://localhost/job-launcher/launches/" + accepted.id()));
+        Assertions.assertThat(response.getBody()).isEqualTo(accepted);
+        Mockito.verifyNoInteractions(jobLauncherService);
+    }
+
+    @Test
+    void testGetLaunchStatus() {
+        final UUID launchId = UUID.randomUUID();
+        final AsyncLaunchService.LaunchStatus messageSent = new AsyncLaunchService.LaunchStatus(launchId, "2021-12-09T21:30", LaunchStage.MESSAGE_SENT, null, Instant.now(), Instant.now());
+        Mockito.when(asyncLaunchService.getLaunchStatus(launchId)).thenReturn(Optional.of(messageSent));
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtoList);
+        final ResponseEntity<AsyncLaunchService.LaunchStatus> response = jobLauncherController.getLaunchStatus(launchId);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEqualTo(messageSent);
+    }
+
+    @Test
+    void testGetUnknownLaunchStatus() {
+        Mockito.when(asyncLaunchService.getLaunchStatus(Mockito.any())).thenReturn(Optional.empty());
+
+        final ResponseEntity<AsyncLaunchService.LaunchStatus> response = jobLauncherController.getLaunchStatus(UUID.randomUUID());
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void testLaunchJobsFromList() {
+        final List<String> timestamps = List.of("2021-12-09T21:30Z", "2021-12-09T22:30Z");
+        final List<BulkLaunchService.TimestampLaunchResult> results = List.of(
+                new BulkLaunchService.TimestampLaunchResult("2021-12-09T21:30Z", LaunchStage.MESSAGE_SENT, null),
+                new BulkLaunchService.TimestampLaunchResult("2021-12-09T22:30Z", LaunchStage.NOT_READY, null));
+        Mockito.when(bulkLaunchService.launchJobs(timestamps, List.of())).thenReturn(Mono.just(results));
+
+        final ResponseEntity<List<BulkLaunchService.TimestampLaunchResult>> response = jobLauncherController
+                .launchJobs(new BulkLaunchRequest(timestamps, null, null, null, null)).block();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEqualTo(results);
+    }
+
+    @Test
+    void testLaunchJobsFromRangeWithDefaultStep() {
+        final OffsetDateTime from = OffsetDateTime.parse("2021-12-09T00:00Z");
+        final OffsetDateTime to = OffsetDateTime.parse("2021-12-10T00:00Z");
+        final List<String> timestamps = List.of("2021-12-09T00:00Z");
+        Mockito.when(bulkLaunchService.timestampsInRange(from, to, Duration.ofHours(1))).thenReturn(timestamps);
+        Mockito.when(bulkLaunchService.launchJobs(timestamps, List.of())).thenReturn(Mono.just(List.of()));
+
+        final ResponseEntity<List<BulkLaunchService.TimestampLaunchResult>> response = jobLauncherController
+                .launchJobs(new BulkLaunchRequest(null, from, to, null, null)).block();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Mockito.verify(bulkLaunchService).launchJobs(timestamps, List.of());
+    }
+
+    @Test
+    void testLaunchJobsWithMalformedRequest() {
+        final OffsetDateTime from = OffsetDateTime.parse("2021-12-09T00:00Z");
+        final List<String> timestamps = List.of("2021-12-09T21:30Z");
+
+        Assertions.assertThat(jobLauncherController.launchJobs(new BulkLaunchRequest(timestamps, from, from.plusDays(1), null, null)).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(jobLauncherController.launchJobs(new BulkLaunchRequest(null, from, null, null, null)).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(jobLauncherController.launchJobs(new BulkLaunchRequest(null, null, null, null, null)).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verifyNoInteractions(bulkLaunchService);
+    }
+
     @Test
     void testStopJobOk() {
         final String timestamp = "2021-12-09T21:30";
         final UUID runId = UUID.randomUUID();
-        Mockito.when(jobLauncherService.stopJob(timestamp, runId)).thenReturn(true);
+        Mockito.when(jobLauncherService.stopJob(timestamp, runId)).thenReturn(Mono.just(true));
 
-        final ResponseEntity<Void> response = jobLauncherController.stopJob(timestamp, runId);
+        final ResponseEntity<Void> response = jobLauncherController.stopJob(timestamp, runId).block();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
@@ -77,10 +191,71 @@ class JobLauncherControllerTest {
     void testStopJobNotFound() {
         final String timestamp = "2021-12-09T21:30";
         final UUID runId = UUID.randomUUID();
-        Mockito.when(jobLauncherService.stopJob(timestamp, runId)).thenReturn(false);
+        Mockito.when(jobLauncherService.stopJob(timestamp, runId)).thenReturn(Mono.just(false));
 
-        final ResponseEntity<Void> response = jobLauncherController.stopJob(timestamp, runId);
+        final ResponseEntity<Void> response = jobLauncherController.stopJob(timestamp, runId).block();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
+
+    @Test
+    void testStopJobsFromList() {
+        final List<BulkStopService.RunToStop> runs = List.of(new BulkStopService.RunToStop("2021-12-09T21:30Z", UUID.randomUUID()));
+        final List<BulkStopService.TaskStopResult> results = List.of(
+                new BulkStopService.TaskStopResult("2021-12-09T21:30Z", runs.getFirst().runId(), BulkStopService.StopOutcome.STOPPED, null));
+        Mockito.when(bulkStopService.stopJobs(runs)).thenReturn(Mono.just(results));
+
+        final ResponseEntity<List<BulkStopService.TaskStopResult>> response = jobLauncherController.stopJobs(new BulkStopRequest(runs, null)).block();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEqualTo(results);
+    }
+
+    @Test
+    void testStopJobsOfBusinessDate() {
+        final LocalDate businessDate = LocalDate.parse("2021-12-09");
+        Mockito.when(bulkStopService.stopBusinessDate(businessDate)).thenReturn(Mono.just(List.of())).thenReturn(Mono.empty());
+
+        Assertions.assertThat(jobLauncherController.stopJobs(new BulkStopRequest(null, businessDate)).block().getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(jobLauncherController.stopJobs(new BulkStopRequest(null, businessDate)).block().getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testStopJobsWithMalformedRequest() {
+        final List<BulkStopService.RunToStop> runs = List.of(new BulkStopService.RunToStop("2021-12-09T21:30Z", UUID.randomUUID()));
+        Mockito.when(bulkStopService.stopJobs(List.of())).thenThrow(new IllegalArgumentException("No runs"));
+
+        Assertions.assertThat(jobLauncherController.stopJobs(new BulkStopRequest(runs, LocalDate.parse("2021-12-09"))).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(jobLauncherController.stopJobs(new BulkStopRequest(null, null)).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(jobLauncherController.stopJobs(new BulkStopRequest(List.of(), null)).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testLaunchQueueFullReturnsTooManyRequests() {
+        final ResponseEntity<Void> response = jobLauncherController.handleLaunchQueueFull(new LaunchQueueFullException("Launch queue is full", Duration.ofMillis(4500)));
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        Assertions.assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    }
+
+    @Test
+    void testTimeoutReturnsGatewayTimeout() {
+        final ResponseEntity<Void> response = jobLauncherController.handleTimeout(new TimeoutException("Launch did not complete within PT4M"));
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @Test
+    void testCircuitOpenReturnsServiceUnavailable() {
+        final CallNotPermittedException exception = CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("task-manager"));
+
+        final ResponseEntity<Void> response = jobLauncherController.handleCallNotPermitted(exception);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
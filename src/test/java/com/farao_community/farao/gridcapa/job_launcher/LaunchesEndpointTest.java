@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import com.farao_community.farao.gridcapa.job_launcher.service.LaunchArbiter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Sinks;
+
+@SpringBootTest
+class LaunchesEndpointTest {
+
+    @Autowired
+    private LaunchesEndpoint launchesEndpoint;
+
+    @Autowired
+    private LaunchArbiter launchArbiter;
+
+    @Test
+    void launchesInFlightAreListed() {
+        final Sinks.One<Boolean> launch = Sinks.one();
+        launchArbiter.arbitrate("2024-09-13T09:30Z", LaunchArbiter.Caller.MANUAL, queued -> launch.asMono()).subscribe();
+
+        Assertions.assertThat(launchesEndpoint.launchesInFlight()).singleElement()
+                .satisfies(launchInFlight -> {
+                    Assertions.assertThat(launchInFlight.timestamp()).isEqualTo("2024-09-13T09:30Z");
+                    Assertions.assertThat(launchInFlight.caller()).isEqualTo(LaunchArbiter.Caller.MANUAL);
+                    Assertions.assertThat(launchInFlight.stuck()).isFalse();
+                });
+
+        launch.tryEmitValue(true);
+
+        Assertions.assertThat(launchesEndpoint.launchesInFlight()).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+class WebMvcConfigurationTest {
+
+    private static JobLauncherConfigurationProperties launchTimingOutAfter(final Duration launchTimeout) {
+        return new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, launchTimeout, null, null, null, null, null);
+    }
+
+    @Test
+    void asyncRequestsTimeOutAfterConfiguredDuration() {
+        final AsyncSupportConfigurer configurer = Mockito.mock(AsyncSupportConfigurer.class);
+
+        new WebMvcConfiguration(Duration.ofMinutes(5), launchTimingOutAfter(Duration.ofMinutes(4))).configureAsyncSupport(configurer);
+
+        Mockito.verify(configurer).setDefaultTimeout(300_000L);
+    }
+
+    @Test
+    void asyncRequestTimeoutMustBeAboveLaunchTimeout() {
+        final JobLauncherConfigurationProperties properties = launchTimingOutAfter(Duration.ofMinutes(5));
+        final Duration asyncRequestTimeout = Duration.ofMinutes(5);
+
+        Assertions.assertThatThrownBy(() -> new WebMvcConfiguration(asyncRequestTimeout, properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.job_launcher.MessagingConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+class JacksonBinaryMessageConverterTest {
+    private final ObjectMapper fullMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    private final ObjectMapper leanMapper = fullMapper.copy().registerModule(new LeanTaskDtoModule());
+
+    private void assertLeanTaskIsWrittenIntact(final JacksonBinaryMessageConverter converter, final ObjectMapper binaryMapper) throws IOException {
+        final TaskDto taskDto = leanMapper.readValue(LeanTaskDtoModuleTest.TASK_JSON, TaskDto.class);
+
+        final Message<?> message = converter.toMessage(taskDto, new MessageHeaders(Map.of()));
+
+        Assertions.assertThat(message).isNotNull();
+        Assertions.assertThat(message.getHeaders()).containsEntry(MessageHeaders.CONTENT_TYPE, converter.getSupportedMimeTypes().getFirst());
+        final JsonNode written = binaryMapper.readTree((byte[]) message.getPayload());
+        final JsonNode original = fullMapper.readTree(LeanTaskDtoModuleTest.TASK_JSON);
+        Assertions.assertThat(written.get("availableInputs")).isEqualTo(original.get("availableInputs"));
+        Assertions.assertThat(written.get("outputs")).isEqualTo(original.get("outputs"));
+        Assertions.assertThat(written.get("processEvents")).isEqualTo(original.get("processEvents"));
+        Assertions.assertThat(written.get("timestamp")).isEqualTo(original.get("timestamp"));
+        // UUIDs are written as binary values by binary formats
+        final TaskDto readTaskDto = binaryMapper.readValue((byte[]) message.getPayload(), TaskDto.class);
+        Assertions.assertThat(readTaskDto.getId()).isEqualTo(taskDto.getId());
+        Assertions.assertThat(readTaskDto.getRunHistory().getFirst().getId()).isEqualTo(taskDto.getRunHistory().getFirst().getId());
+    }
+
+    @Test
+    void leanTaskIsWrittenIntactInSmile() throws IOException {
+        final ObjectMapper smileMapper = leanMapper.copyWith(new SmileFactory());
+        assertLeanTaskIsWrittenIntact(new JacksonBinaryMessageConverter(smileMapper, MessagingConfiguration.APPLICATION_SMILE), smileMapper);
+    }
+
+    @Test
+    void leanTaskIsWrittenIntactInCbor() throws IOException {
+        final ObjectMapper cborMapper = leanMapper.copyWith(new CBORFactory());
+        assertLeanTaskIsWrittenIntact(new JacksonBinaryMessageConverter(cborMapper, MessagingConfiguration.APPLICATION_CBOR), cborMapper);
+    }
+
+    @Test
+    void taskIsReadBack() throws IOException {
+        final JacksonBinaryMessageConverter converter = new JacksonBinaryMessageConverter(leanMapper.copyWith(new SmileFactory()), MessagingConfiguration.APPLICATION_SMILE);
+        final TaskDto taskDto = leanMapper.readValue(LeanTaskDtoModuleTest.TASK_JSON, TaskDto.class);
+        final Message<?> message = converter.toMessage(taskDto, new MessageHeaders(Map.of()));
+
+        final TaskDto readTaskDto = (TaskDto) converter.fromMessage(message, TaskDto.class);
+
+        Assertions.assertThat(readTaskDto).isNotNull();
+        Assertions.assertThat(readTaskDto.getId()).isEqualTo(taskDto.getId());
+        Assertions.assertThat(readTaskDto.getProcessEvents()).hasSize(1);
+    }
+
+    @Test
+    void bytesAreSentAsIs() {
+        final JacksonBinaryMessageConverter converter = new JacksonBinaryMessageConverter(leanMapper.copyWith(new CBORFactory()), MessagingConfiguration.APPLICATION_CBOR);
+        final byte[] payload = {1, 2, 3};
+
+        final Message<?> message = converter.toMessage(payload, new MessageHeaders(Map.of()));
+
+        Assertions.assertThat(message).isNotNull();
+        Assertions.assertThat(message.getPayload()).isSameAs(payload);
+        Assertions.assertThat(converter.fromMessage(MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MessagingConfiguration.APPLICATION_CBOR).build(), byte[].class)).isSameAs(payload);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+class LeanTaskDtoModuleTest {
+    static final String TASK_JSON = """
+            {
+              "id": "1fdda469-53e9-4d63-a533-b935cffdd2f6",
+              "timestamp": "2024-09-13T09:30:00Z",
+              "status": "READY",
+              "inputs": [{"fileType": "CGM", "filename": "cgm.uct", "processFileStatus": "VALIDATED"}],
+              "availableInputs": [{"fileType": "CGM", "filename": "cgm.uct", "processFileStatus": "VALIDATED"}, {"fileType": "CRAC", "filename": "crac.xml"}],
+              "outputs": [{"fileType": "CNE", "filename": "cne.xml", "processFileStatus": "VALIDATED"}],
+              "processEvents": [{"level": "INFO", "timestamp": "2024-09-13T09:31:00Z", "message": "Task launched with \\"quotes\\" and é", "serviceName": "job-launcher"}],
+              "runHistory": [{"id": "0a3bfa55-3cc5-44ff-a7b6-46ac50c8b0d1", "executionDate": "2024-09-13T09:30:00Z", "inputs": []}],
+              "parameters": [{"id": "KEY", "parameterType": "STRING", "value": "VALUE", "defaultValue": "DEFAULT"}]
+            }
+            """;
+
+    private final ObjectMapper fullMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    private final ObjectMapper leanMapper = fullMapper.copy().registerModule(new LeanTaskDtoModule());
+
+    @Test
+    void readBindsFieldsUsedByJobLauncher() throws IOException {
+        final TaskDto taskDto = leanMapper.readValue(TASK_JSON, TaskDto.class);
+
+        Assertions.assertThat(taskDto).isInstanceOf(LeanTaskDto.class);
+        Assertions.assertThat(taskDto.getId()).hasToString("1fdda469-53e9-4d63-a533-b935cffdd2f6");
+        Assertions.assertThat(taskDto.getTimestamp()).isEqualTo(OffsetDateTime.parse("2024-09-13T09:30:00Z"));
+        Assertions.assertThat(taskDto.getStatus()).isEqualTo(TaskStatus.READY);
+        Assertions.assertThat(taskDto.getInputs()).hasSize(1);
+        Assertions.assertThat(taskDto.getRunHistory()).hasSize(1);
+        Assertions.assertThat(taskDto.getParameters()).hasSize(1);
+    }
+
+    @Test
+    void heavyFieldsAreStillReadableOnDemand() throws IOException {
+        final TaskDto taskDto = leanMapper.readValue(TASK_JSON, TaskDto.class);
+
+        Assertions.assertThat(taskDto.getAvailableInputs()).hasSize(2);
+        Assertions.assertThat(taskDto.getOutputs()).hasSize(1);
+        Assertions.assertThat(taskDto.getProcessEvents()).hasSize(1);
+        Assertions.assertThat(taskDto.getProcessEvents().getFirst().getMessage()).isEqualTo("Task launched with \"quotes\" and é");
+    }
+
+    @Test
+    void writeReEmitsRawFieldsIntact() throws IOException {
+        final TaskDto taskDto = leanMapper.readValue(TASK_JSON, TaskDto.class);
+
+        final JsonNode written = fullMapper.readTree(leanMapper.writeValueAsString(taskDto));
+
+        final JsonNode original = fullMapper.readTree(TASK_JSON);
+        Assertions.assertThat(written.get("availableInputs")).isEqualTo(original.get("availableInputs"));
+        Assertions.assertThat(written.get("outputs")).isEqualTo(original.get("outputs"));
+        Assertions.assertThat(written.get("processEvents")).isEqualTo(original.get("processEvents"));
+        Assertions.assertThat(written.get("id")).isEqualTo(original.get("id"));
+        Assertions.assertThat(written.get("timestamp")).isEqualTo(original.get("timestamp"));
+        Assertions.assertThat(written.get("runHistory")).isEqualTo(original.get("runHistory"));
+        Assertions.assertThat(written.get("parameters")).isEqualTo(original.get("parameters"));
+    }
+
+    @Test
+    void withParametersKeepsRawFields() throws IOException {
+        final LeanTaskDto taskDto = (LeanTaskDto) leanMapper.readValue(TASK_JSON, TaskDto.class);
+        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("OTHER", "STRING", "OTHER_VALUE", "DEFAULT"));
+
+        final LeanTaskDto taskDtoWithParameters = taskDto.withParameters(parameters);
+
+        Assertions.assertThat(taskDtoWithParameters.getParameters()).isEqualTo(parameters);
+        Assertions.assertThat(taskDtoWithParameters.rawProcessEvents()).isSameAs(taskDto.rawProcessEvents());
+        Assertions.assertThat(fullMapper.readTree(leanMapper.writeValueAsString(taskDtoWithParameters)).get("processEvents"))
+                .isEqualTo(fullMapper.readTree(TASK_JSON).get("processEvents"));
+    }
+
+    @Test
+    void nullAndMissingFieldsAreKept() throws IOException {
+        final String json = "{\"id\":\"1fdda469-53e9-4d63-a533-b935cffdd2f6\",\"status\":\"READY\",\"processEvents\":null}";
+
+        final TaskDto taskDto = leanMapper.readValue(json, TaskDto.class);
+
+        Assertions.assertThat(taskDto.getProcessEvents()).isNull();
+        Assertions.assertThat(taskDto.getOutputs()).isNull();
+        Assertions.assertThat(fullMapper.readTree(leanMapper.writeValueAsString(taskDto)).get("processEvents").isNull()).isTrue();
+    }
+
+    @Test
+    void readArrayOfTasks() throws IOException {
+        final TaskDto[] taskDtos = leanMapper.readValue("[" + TASK_JSON + "," + TASK_JSON + "]", TaskDto[].class);
+
+        Assertions.assertThat(taskDtos).hasSize(2).allSatisfy(taskDto -> Assertions.assertThat(taskDto).isInstanceOf(LeanTaskDto.class));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.job_launcher.service.MessageCompressionInterceptor;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Time to encode the run message of a task read with {@link LeanTaskDtoModule}, in each content type, gzipped or
+ * not. Tasks hold 10 inputs and a run history and process events growing with the number of runs. The size of each
+ * encoded message is logged on setup. Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageEncodingBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageEncodingBenchmark.class);
+    private static final String FILE_TYPES = "CGM,CRAC,GLSK,NTC,TARGET_CH,VULCANUS,NTC2,REFPROG,RAOREQUEST,USER_CONFIG";
+
+    @Param({"1", "20"})
+    private int runsCount;
+
+    @Param({"json", "smile", "cbor"})
+    private String contentType;
+
+    @Param({"none", "gzip"})
+    private String compression;
+
+    private ObjectMapper objectMapper;
+    private MessageCompressionInterceptor compressionInterceptor;
+    private MessageChannel channel;
+    private TaskDto taskDto;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectMapper leanMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new LeanTaskDtoModule());
+        objectMapper = switch (contentType) {
+            case "smile" -> leanMapper.copyWith(new SmileFactory());
+            case "cbor" -> leanMapper.copyWith(new CBORFactory());
+            default -> leanMapper;
+        };
+        compressionInterceptor = new MessageCompressionInterceptor(DataSize.ofBytes("gzip".equals(compression) ? 0 : Long.MAX_VALUE));
+        channel = Mockito.mock(MessageChannel.class);
+        taskDto = leanMapper.readValue(taskJson(runsCount), TaskDto.class);
+        LOGGER.info("{} runs, {}, {} compression: {} bytes", runsCount, contentType, compression, encode().length);
+    }
+
+    private static String files() {
+        return Arrays.stream(FILE_TYPES.split(","))
+                .map(fileType -> "{\"fileType\":\"" + fileType + "\",\"filename\":\"20240913_0930_" + fileType + "_v1.xml\","
+                        + "\"filePath\":\"gridcapa/CSE/D2CC/" + fileType + "/20240913_0930_" + fileType + "_v1.xml\","
+                        + "\"processFileStatus\":\"VALIDATED\",\"documentId\":\"" + UUID.randomUUID() + "\","
+                        + "\"lastModificationDate\":\"2024-09-13T08:12:45.123Z\"}")
+                .collect(Collectors.joining(","));
+    }
+
+    private static String taskJson(final int runsCount) {
+        final String files = files();
+        final String runHistory = IntStream.range(0, runsCount)
+                .mapToObj(i -> "{\"id\":\"" + UUID.randomUUID() + "\",\"executionDate\":\"2024-09-13T09:" + String.format("%02d", i) + ":00Z\",\"inputs\":[" + files + "]}")
+                .collect(Collectors.joining(","));
+        final String processEvents = IntStream.range(0, runsCount * 50)
+                .mapToObj(i -> "{\"level\":\"INFO\",\"timestamp\":\"2024-09-13T09:31:00Z\",\"message\":\"Computation step " + i + " ended\",\"serviceName\":\"rao-runner\"}")
+                .collect(Collectors.joining(","));
+        return "{\"id\":\"" + UUID.randomUUID() + "\",\"timestamp\":\"2024-09-13T09:30:00Z\",\"status\":\"READY\","
+                + "\"inputs\":[" + files + "],\"availableInputs\":[" + files + "],\"outputs\":[" + files + "],"
+                + "\"processEvents\":[" + processEvents + "],\"runHistory\":[" + runHistory + "],"
+                + "\"parameters\":[{\"id\":\"KEY\",\"parameterType\":\"STRING\",\"value\":\"VALUE\",\"defaultValue\":\"DEFAULT\"}]}";
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        final Message<byte[]> message = MessageBuilder.withPayload(objectMapper.writeValueAsBytes(taskDto)).build();
+        return (byte[]) compressionInterceptor.preSend(message, channel).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageEncodingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
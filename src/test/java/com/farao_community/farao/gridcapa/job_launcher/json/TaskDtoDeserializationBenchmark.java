@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.json;
+
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares reading a task update with every field bound to reading it with {@link LeanTaskDtoModule}, and the same for
+ * a read followed by the write of the run message. Run {@link #main(String[])} from the test classpath: the GC
+ * profiler reports the bytes allocated per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDtoDeserializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int processEventsCount;
+
+    private ObjectMapper fullMapper;
+    private ObjectMapper leanMapper;
+    private byte[] taskJson;
+
+    @Setup
+    public void setUp() {
+        fullMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        leanMapper = fullMapper.copy().registerModule(new LeanTaskDtoModule());
+        final String processEvents = IntStream.range(0, processEventsCount)
+                .mapToObj(i -> "{\"level\":\"INFO\",\"timestamp\":\"2024-09-13T09:31:00Z\",\"message\":\"Computation step " + i + " ended\",\"serviceName\":\"rao-runner\"}")
+                .collect(Collectors.joining(","));
+        taskJson = ("{\"id\":\"1fdda469-53e9-4d63-a533-b935cffdd2f6\",\"timestamp\":\"2024-09-13T09:30:00Z\",\"status\":\"READY\","
+                + "\"inputs\":[{\"fileType\":\"CGM\",\"filename\":\"cgm.uct\",\"processFileStatus\":\"VALIDATED\"}],"
+                + "\"availableInputs\":[{\"fileType\":\"CGM\",\"filename\":\"cgm.uct\",\"processFileStatus\":\"VALIDATED\"}],"
+                + "\"outputs\":[{\"fileType\":\"CNE\",\"filename\":\"cne.xml\",\"processFileStatus\":\"VALIDATED\"}],"
+                + "\"processEvents\":[" + processEvents + "],"
+                + "\"runHistory\":[],\"parameters\":[]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TaskDto readFull() throws IOException {
+        return fullMapper.readValue(taskJson, TaskDto.class);
+    }
+
+    @Benchmark
+    public TaskDto readLean() throws IOException {
+        return leanMapper.readValue(taskJson, TaskDto.class);
+    }
+
+    @Benchmark
+    public byte[] readThenWriteFull() throws IOException {
+        return fullMapper.writeValueAsBytes(fullMapper.readValue(taskJson, TaskDto.class));
+    }
+
+    @Benchmark
+    public byte[] readThenWriteLean() throws IOException {
+        return leanMapper.writeValueAsBytes(leanMapper.readValue(taskJson, TaskDto.class));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskDtoDeserializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.LaunchQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class AsyncLaunchServiceTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+
+    private final JobLauncherService jobLauncherService = Mockito.mock(JobLauncherService.class);
+    private final LaunchAdmission launchAdmission = new LaunchAdmission(properties(2, 10), new SimpleMeterRegistry());
+    private final AsyncLaunchService asyncLaunchService = new AsyncLaunchService(jobLauncherService, launchAdmission, properties(2, 10));
+
+    private static JobLauncherConfigurationProperties properties(final int maxInFlight, final int queueCapacity) {
+        return new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null,
+                new JobLauncherConfigurationProperties.LaunchAdmissionProperties(maxInFlight, queueCapacity, Duration.ofSeconds(5)), null,
+                new JobLauncherConfigurationProperties.AsyncLaunchProperties(Duration.ofMinutes(1)), null, null);
+    }
+
+    private LaunchStage stageOf(final UUID launchId) {
+        return asyncLaunchService.getLaunchStatus(launchId).orElseThrow().stage();
+    }
+
+    @Test
+    void launchIsAcceptedBeforeItCompletesAndItsProgressIsReported() {
+        final Sinks.One<Boolean> launch = Sinks.one();
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenAnswer(invocation -> {
+            final LaunchProgressListener listener = invocation.getArgument(2);
+            return Mono.fromRunnable(() -> listener.onStage(LaunchStage.FETCHED, null))
+                    .then(launch.asMono())
+                    .doOnNext(launched -> {
+                        listener.onStage(LaunchStage.RUN_ADDED, null);
+                        listener.onStage(LaunchStage.PENDING_SET, null);
+                        listener.onStage(LaunchStage.MESSAGE_SENT, null);
+                    });
+        });
+
+        final AsyncLaunchService.LaunchStatus accepted = asyncLaunchService.submit(TIMESTAMP, List.of());
+
+        Assertions.assertThat(accepted.stage()).isEqualTo(LaunchStage.ACCEPTED);
+        Assertions.assertThat(accepted.timestamp()).isEqualTo(TIMESTAMP);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(accepted.id()) == LaunchStage.FETCHED);
+
+        launch.tryEmitValue(true);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(accepted.id()) == LaunchStage.MESSAGE_SENT);
+    }
+
+    @Test
+    void failureIsReportedWithItsDetail() {
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(TIMESTAMP), Mockito.any(), Mockito.any())).thenReturn(Mono.error(new IllegalStateException("Task-manager unavailable")));
+
+        final UUID launchId = asyncLaunchService.submit(TIMESTAMP, List.of()).id();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(launchId) == LaunchStage.FAILED);
+        Assertions.assertThat(asyncLaunchService.getLaunchStatus(launchId).orElseThrow().detail()).isEqualTo("Task-manager unavailable");
+    }
+
+    @Test
+    void launchWithoutOwnProgressIsReportedAsArbitrated() {
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(TIMESTAMP), Mockito.any(), Mockito.any())).thenReturn(Mono.just(false));
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq("2024-09-13T10:30Z"), Mockito.any(), Mockito.any())).thenReturn(Mono.just(true));
+
+        final UUID rejectedLaunchId = asyncLaunchService.submit(TIMESTAMP, List.of()).id();
+        final UUID coalescedLaunchId = asyncLaunchService.submit("2024-09-13T10:30Z", List.of()).id();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(rejectedLaunchId) == LaunchStage.REJECTED);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(coalescedLaunchId) == LaunchStage.COALESCED);
+    }
+
+    @Test
+    void finalStageIsKept() {
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(TIMESTAMP), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            final LaunchProgressListener listener = invocation.getArgument(2);
+            return Mono.fromSupplier(() -> {
+                listener.onStage(LaunchStage.FAILED, "Could not retrieve task from the task-manager");
+                return false;
+            });
+        });
+
+        final UUID launchId = asyncLaunchService.submit(TIMESTAMP, List.of()).id();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stageOf(launchId) == LaunchStage.FAILED);
+        Assertions.assertThat(asyncLaunchService.getLaunchStatus(launchId).orElseThrow().detail()).isEqualTo("Could not retrieve task from the task-manager");
+    }
+
+    @Test
+    void launchRejectedByAdmissionIsNotAccepted() {
+        final LaunchAdmission fullAdmission = new LaunchAdmission(properties(1, 0), new SimpleMeterRegistry());
+        final AsyncLaunchService service = new AsyncLaunchService(jobLauncherService, fullAdmission, properties(1, 0));
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenReturn(Sinks.<Boolean>one().asMono());
+        final UUID firstLaunchId = service.submit(TIMESTAMP, List.of()).id();
+
+        Assertions.assertThatThrownBy(() -> service.submit(TIMESTAMP, List.of())).isInstanceOf(LaunchQueueFullException.class);
+        Assertions.assertThat(service.getLaunchStatus(firstLaunchId)).isPresent();
+        Mockito.verify(jobLauncherService, Mockito.timeout(5000).times(1)).launchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any());
+    }
+
+    @Test
+    void unknownLaunchHasNoStatus() {
+        Assertions.assertThat(asyncLaunchService.getLaunchStatus(UUID.randomUUID())).isEmpty();
+    }
+}
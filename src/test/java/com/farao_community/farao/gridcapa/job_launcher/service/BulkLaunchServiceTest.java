@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BulkLaunchServiceTest {
+    private static final List<TaskParameterDto> PARAMETERS = List.of(new TaskParameterDto("id", "type", "value", "default"));
+
+    private final JobLauncherService jobLauncherService = Mockito.mock(JobLauncherService.class);
+    private final BulkLaunchService bulkLaunchService = new BulkLaunchService(jobLauncherService,
+            new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null, null, null, null,
+                    new JobLauncherConfigurationProperties.BulkLaunchProperties(2, 4), null));
+
+    private void stubLaunch(final String timestamp, final LaunchStage stage, final boolean launched) {
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq(timestamp), Mockito.eq(PARAMETERS), Mockito.any())).thenAnswer(invocation -> {
+            final LaunchProgressListener listener = invocation.getArgument(2);
+            return Mono.fromSupplier(() -> {
+                if (stage != null) {
+                    listener.onStage(stage, null);
+                }
+                return launched;
+            });
+        });
+    }
+
+    @Test
+    void rangeTimestampsAreEveryStepUntilRangeEnd() {
+        final List<String> timestamps = bulkLaunchService.timestampsInRange(OffsetDateTime.parse("2024-09-13T00:30Z"), OffsetDateTime.parse("2024-09-13T01:30Z"), Duration.ofMinutes(15));
+
+        Assertions.assertThat(timestamps).containsExactly("2024-09-13T00:30Z", "2024-09-13T00:45Z", "2024-09-13T01:00Z", "2024-09-13T01:15Z");
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        final OffsetDateTime from = OffsetDateTime.parse("2024-09-13T00:30Z");
+        final OffsetDateTime to = OffsetDateTime.parse("2024-09-13T01:30Z");
+        final Duration step = Duration.ofMinutes(15);
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkLaunchService.timestampsInRange(to, from, step));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkLaunchService.timestampsInRange(from, to, Duration.ZERO));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkLaunchService.timestampsInRange(from, to.plusMinutes(1), step));
+    }
+
+    @Test
+    void tooManyOrNoTimestampsAreRejected() {
+        final List<String> tooManyTimestamps = List.of("a", "b", "c", "d", "e");
+        final List<String> noTimestamps = List.of();
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkLaunchService.launchJobs(tooManyTimestamps, PARAMETERS));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkLaunchService.launchJobs(noTimestamps, PARAMETERS));
+        Mockito.verifyNoInteractions(jobLauncherService);
+    }
+
+    @Test
+    void outcomeOfEachTimestampIsReportedInOrder() {
+        stubLaunch("2024-09-13T00:30Z", LaunchStage.MESSAGE_SENT, true);
+        stubLaunch("2024-09-13T01:30Z", LaunchStage.NOT_READY, true);
+        stubLaunch("2024-09-13T02:30Z", null, false);
+        Mockito.when(jobLauncherService.launchJob(Mockito.eq("2024-09-13T03:30Z"), Mockito.eq(PARAMETERS), Mockito.any()))
+                .thenReturn(Mono.error(new IllegalStateException("Task-manager unavailable")));
+
+        final List<BulkLaunchService.TimestampLaunchResult> results = bulkLaunchService
+                .launchJobs(List.of("2024-09-13T00:30Z", "2024-09-13T01:30Z", "2024-09-13T02:30Z", "2024-09-13T03:30Z"), PARAMETERS)
+                .block();
+
+        Assertions.assertThat(results).containsExactly(
+                new BulkLaunchService.TimestampLaunchResult("2024-09-13T00:30Z", LaunchStage.MESSAGE_SENT, null),
+                new BulkLaunchService.TimestampLaunchResult("2024-09-13T01:30Z", LaunchStage.NOT_READY, null),
+                new BulkLaunchService.TimestampLaunchResult("2024-09-13T02:30Z", LaunchStage.REJECTED, null),
+                new BulkLaunchService.TimestampLaunchResult("2024-09-13T03:30Z", LaunchStage.FAILED, "Task-manager unavailable"));
+    }
+
+    @Test
+    void launchesAreBounded() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        Mockito.when(jobLauncherService.launchJob(Mockito.anyString(), Mockito.eq(PARAMETERS), Mockito.any())).thenAnswer(invocation ->
+                Mono.delay(Duration.ofMillis(50))
+                        .thenReturn(true)
+                        .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .doOnTerminate(inFlight::decrementAndGet));
+
+        final List<BulkLaunchService.TimestampLaunchResult> results = bulkLaunchService.launchJobs(List.of("a", "b", "c", "d"), PARAMETERS).block();
+
+        Assertions.assertThat(results).hasSize(4);
+        Assertions.assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+}
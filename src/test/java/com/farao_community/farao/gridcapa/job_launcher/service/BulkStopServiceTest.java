@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BulkStopServiceTest {
+    private final JobLauncherCommonService jobLauncherCommonService = Mockito.mock(JobLauncherCommonService.class);
+    private final TaskManagerAsyncService taskManagerAsyncService = Mockito.mock(TaskManagerAsyncService.class);
+    private final TaskDtoCache taskDtoCache = Mockito.mock(TaskDtoCache.class);
+    private final BulkStopService bulkStopService = bulkStopService(Duration.ofMinutes(4));
+
+    private BulkStopService bulkStopService(final Duration stopTimeout) {
+        return new BulkStopService(jobLauncherCommonService, taskManagerAsyncService, taskDtoCache,
+                new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, stopTimeout, null, null, null, null,
+                        new JobLauncherConfigurationProperties.BulkStopProperties(2, 3)));
+    }
+
+    private static TaskDto task(final String timestamp, final TaskStatus status, final List<ProcessRunDto> runHistory) {
+        return new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), status, List.of(), List.of(), List.of(), List.of(), runHistory, List.of());
+    }
+
+    private static ProcessRunDto run(final UUID runId, final String executionDate) {
+        return new ProcessRunDto(runId, OffsetDateTime.parse(executionDate), List.of());
+    }
+
+    @Test
+    void outcomeOfEachRunIsReportedInOrder() {
+        final UUID runId = UUID.randomUUID();
+        final TaskDto runningTask = task("2024-09-13T00:30Z", TaskStatus.RUNNING, List.of());
+        final TaskDto pendingTask = task("2024-09-13T01:30Z", TaskStatus.PENDING, List.of());
+        final TaskDto successTask = task("2024-09-13T02:30Z", TaskStatus.SUCCESS, List.of());
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp("2024-09-13T00:30Z")).thenReturn(Mono.just(runningTask));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp("2024-09-13T01:30Z")).thenReturn(Mono.just(pendingTask));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp("2024-09-13T02:30Z")).thenReturn(Mono.just(successTask));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp("2024-09-13T03:30Z")).thenReturn(Mono.empty());
+        Mockito.when(jobLauncherCommonService.stopJob(runId, runningTask, "stop-task")).thenReturn(Mono.just(true));
+        Mockito.when(jobLauncherCommonService.stopJob(runId, pendingTask, "stop-task")).thenReturn(Mono.just(false));
+
+        final List<BulkStopService.TaskStopResult> results = bulkStopService.stopJobs(List.of(
+                new BulkStopService.RunToStop("2024-09-13T00:30Z", runId),
+                new BulkStopService.RunToStop("2024-09-13T01:30Z", runId),
+                new BulkStopService.RunToStop("2024-09-13T02:30Z", runId))).block();
+
+        Assertions.assertThat(results)
+                .extracting(BulkStopService.TaskStopResult::timestamp, BulkStopService.TaskStopResult::outcome)
+                .containsExactly(
+                        Assertions.tuple("2024-09-13T00:30Z", BulkStopService.StopOutcome.STOPPED),
+                        Assertions.tuple("2024-09-13T01:30Z", BulkStopService.StopOutcome.FAILED),
+                        Assertions.tuple("2024-09-13T02:30Z", BulkStopService.StopOutcome.NOT_STOPPABLE));
+        Assertions.assertThat(bulkStopService.stopJobs(List.of(new BulkStopService.RunToStop("2024-09-13T03:30Z", runId))).block())
+                .extracting(BulkStopService.TaskStopResult::outcome)
+                .containsExactly(BulkStopService.StopOutcome.NOT_FOUND);
+    }
+
+    @Test
+    void tooManyOrNoRunsAreRejected() {
+        final BulkStopService.RunToStop runToStop = new BulkStopService.RunToStop("2024-09-13T00:30Z", UUID.randomUUID());
+        final List<BulkStopService.RunToStop> tooManyRuns = List.of(runToStop, runToStop, runToStop, runToStop);
+        final List<BulkStopService.RunToStop> noRuns = List.of();
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkStopService.stopJobs(tooManyRuns));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> bulkStopService.stopJobs(noRuns));
+    }
+
+    @Test
+    void latestRunsOfStoppableTasksOfBusinessDateAreStopped() {
+        final UUID latestRunId = UUID.randomUUID();
+        final TaskDto runningTask = task("2024-09-13T00:30Z", TaskStatus.RUNNING,
+                List.of(run(latestRunId, "2024-09-13T10:00Z"), run(UUID.randomUUID(), "2024-09-13T09:00Z")));
+        final TaskDto pendingTaskWithoutRun = task("2024-09-13T01:30Z", TaskStatus.PENDING, List.of());
+        final TaskDto successTask = task("2024-09-13T02:30Z", TaskStatus.SUCCESS, List.of(run(UUID.randomUUID(), "2024-09-13T09:00Z")));
+        Mockito.when(taskManagerAsyncService.getTasksFromBusinessDate("2024-09-13"))
+                .thenReturn(Mono.just(new TaskDto[]{runningTask, pendingTaskWithoutRun, successTask}));
+        Mockito.when(jobLauncherCommonService.stopJob(latestRunId, runningTask, "stop-task")).thenReturn(Mono.just(true));
+
+        final List<BulkStopService.TaskStopResult> results = bulkStopService.stopBusinessDate(LocalDate.parse("2024-09-13")).block();
+
+        Assertions.assertThat(results)
+                .extracting(BulkStopService.TaskStopResult::timestamp, BulkStopService.TaskStopResult::runId, BulkStopService.TaskStopResult::outcome)
+                .containsExactly(
+                        Assertions.tuple("2024-09-13T00:30Z", latestRunId, BulkStopService.StopOutcome.STOPPED),
+                        Assertions.tuple("2024-09-13T01:30Z", null, BulkStopService.StopOutcome.FAILED));
+        Mockito.verifyNoInteractions(taskDtoCache);
+    }
+
+    @Test
+    void businessDateWhoseTasksCannotBeRetrievedHasNoResult() {
+        Mockito.when(taskManagerAsyncService.getTasksFromBusinessDate("2024-09-13")).thenReturn(Mono.empty());
+
+        Assertions.assertThat(bulkStopService.stopBusinessDate(LocalDate.parse("2024-09-13")).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void stopsAreBounded() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final TaskDto runningTask = task("2024-09-13T00:30Z", TaskStatus.RUNNING, List.of(run(UUID.randomUUID(), "2024-09-13T10:00Z")));
+        Mockito.when(taskManagerAsyncService.getTasksFromBusinessDate("2024-09-13"))
+                .thenReturn(Mono.just(new TaskDto[]{runningTask, runningTask, runningTask, runningTask}));
+        Mockito.when(jobLauncherCommonService.stopJob(Mockito.any(), Mockito.any(), Mockito.anyString())).thenAnswer(invocation ->
+                Mono.delay(Duration.ofMillis(50))
+                        .thenReturn(true)
+                        .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .doOnTerminate(inFlight::decrementAndGet));
+
+        Assertions.assertThat(bulkStopService.stopBusinessDate(LocalDate.parse("2024-09-13")).block()).hasSize(4);
+        Assertions.assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void stopNotOverInTimeIsReportedAsFailed() {
+        final UUID runId = UUID.randomUUID();
+        final TaskDto runningTask = task("2024-09-13T00:30Z", TaskStatus.RUNNING, List.of());
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp("2024-09-13T00:30Z")).thenReturn(Mono.just(runningTask));
+        Mockito.when(jobLauncherCommonService.stopJob(runId, runningTask, "stop-task")).thenReturn(Mono.never());
+
+        final List<BulkStopService.TaskStopResult> results = bulkStopService(Duration.ofMillis(100))
+                .stopJobs(List.of(new BulkStopService.RunToStop("2024-09-13T00:30Z", runId))).block();
+
+        Assertions.assertThat(results).singleElement().satisfies(result -> {
+            Assertions.assertThat(result.outcome()).isEqualTo(BulkStopService.StopOutcome.FAILED);
+            Assertions.assertThat(result.detail()).isEqualTo("Stop did not complete within PT0.1S");
+        });
+    }
+}
@@ -6,96 +6,132 @@
  */
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.RetryConfiguration;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
-@SpringBootTest
 class InterruptionServerServiceTest {
-    @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
-    @Autowired
-    private InterruptionServerService interruptionServerService;
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InterruptionServerService serviceRespondingWith(final Function<Integer, Mono<ClientResponse>> responses) {
+        final JobLauncherConfigurationProperties properties = new JobLauncherConfigurationProperties(
+                new JobLauncherConfigurationProperties.UrlProperties("http://task-manager/tasks/", "http://task-manager/tasks/businessdate/", "http://interruption-server/", null),
+                null,
+                List.of(),
+                null,
+                null,
+                null, null, null, false, null, null, null, null, null, null);
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return responses.apply(requests.size());
+                })
+                .build();
+        return new InterruptionServerService(properties, webClient, new RetryConfiguration().jobLauncherRetrySpec(10, 2, 0.5, 3), circuitBreakerRegistry, new LaunchMetrics(meterRegistry), Schedulers.immediate());
+    }
+
+    private static Mono<ClientResponse> ok() {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("true")
+                .build());
+    }
+
+    private static Mono<ClientResponse> connectionRefused() {
+        return Mono.error(new WebClientRequestException(new IOException("Connection refused"), HttpMethod.PUT, URI.create("http://interruption-server"), HttpHeaders.EMPTY));
+    }
+
+    private static TaskDto mockTaskDto() {
+        final TaskDto taskDto = Mockito.mock(TaskDto.class);
+        Mockito.when(taskDto.getId()).thenReturn(UUID.randomUUID());
+        return taskDto;
+    }
 
     @Test
     void interruptRunNoRetry() {
         final UUID runId = UUID.randomUUID();
-        final UUID taskId = UUID.randomUUID();
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(taskDto.getId()).thenReturn(taskId);
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(runId.toString()), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(Boolean.class)))
-                .thenReturn(new ResponseEntity<>(true, HttpStatus.OK));
+        final TaskDto taskDto = mockTaskDto();
+        final InterruptionServerService interruptionServerService = serviceRespondingWith(attempt -> ok());
 
-        final Optional<Boolean> result = interruptionServerService.interruptRun(runId, taskDto);
+        final Boolean result = interruptionServerService.interruptRun(runId, taskDto).block();
 
-        Assertions.assertThat(result).contains(true);
+        Assertions.assertThat(result).isTrue();
+        Assertions.assertThat(requests).hasSize(1);
+        Assertions.assertThat(requests.get(0).method()).isEqualTo(HttpMethod.PUT);
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://interruption-server/" + taskDto.getId() + "?runId=" + runId);
     }
 
     @Test
     void interruptRunWithErrorInInterruptionServer() {
-        final UUID runId = UUID.randomUUID();
-        final UUID taskId = UUID.randomUUID();
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(taskDto.getId()).thenReturn(taskId);
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(runId.toString()), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+        final InterruptionServerService interruptionServerService = serviceRespondingWith(attempt -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()));
 
-        final Optional<Boolean> result = interruptionServerService.interruptRun(runId, taskDto);
+        final Boolean result = interruptionServerService.interruptRun(UUID.randomUUID(), mockTaskDto()).block();
 
-        Assertions.assertThat(result).isEmpty();
+        Assertions.assertThat(result).isNull();
+        Assertions.assertThat(requests).hasSize(3);
     }
 
     @Test
     void interruptRunRetryOnce() {
-        final UUID runId = UUID.randomUUID();
-        final UUID taskId = UUID.randomUUID();
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(taskDto.getId()).thenReturn(taskId);
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(runId.toString()), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(Boolean.class)))
-                .thenThrow(RestClientException.class)
-                .thenReturn(new ResponseEntity<>(true, HttpStatus.OK));
+        final InterruptionServerService interruptionServerService = serviceRespondingWith(attempt -> attempt == 1 ? connectionRefused() : ok());
 
-        final Optional<Boolean> result = interruptionServerService.interruptRun(runId, taskDto);
+        final Boolean result = interruptionServerService.interruptRun(UUID.randomUUID(), mockTaskDto()).block();
 
-        Assertions.assertThat(result).contains(true);
+        Assertions.assertThat(result).isTrue();
+        Assertions.assertThat(requests).hasSize(2);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.retries").tag("request", "interrupt-run").counter().count()).isEqualTo(1);
     }
 
     @Test
     void interruptRunAllRetry() {
-        final UUID runId = UUID.randomUUID();
-        final UUID taskId = UUID.randomUUID();
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(taskDto.getId()).thenReturn(taskId);
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(runId.toString()), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(Boolean.class)))
-                .thenThrow(RestClientException.class);
+        final InterruptionServerService interruptionServerService = serviceRespondingWith(attempt -> connectionRefused());
+
+        final Boolean result = interruptionServerService.interruptRun(UUID.randomUUID(), mockTaskDto()).block();
+
+        Assertions.assertThat(result).isNull();
+        Assertions.assertThat(requests).hasSize(3);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.retries").tag("request", "interrupt-run").counter().count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.fallbacks").tag("request", "interrupt-run").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "interrupt-run").tag("outcome", "empty").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void interruptRunFailsFastWhenCircuitIsOpen() {
+        final InterruptionServerService interruptionServerService = serviceRespondingWith(attempt -> ok());
+        circuitBreakerRegistry.circuitBreaker("interruption-server").transitionToOpenState();
 
-        final Optional<Boolean> result = interruptionServerService.interruptRun(runId, taskDto);
+        final Mono<Boolean> result = interruptionServerService.interruptRun(UUID.randomUUID(), mockTaskDto());
 
-        Assertions.assertThat(result).isEmpty();
+        Assertions.assertThatExceptionOfType(CallNotPermittedException.class).isThrownBy(result::block);
+        Assertions.assertThat(requests).isEmpty();
     }
 }
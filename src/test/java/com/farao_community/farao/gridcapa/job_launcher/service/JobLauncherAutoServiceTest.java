@@ -12,6 +12,10 @@ import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -19,15 +23,20 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,23 +50,25 @@ class JobLauncherAutoServiceTest {
     private StreamBridge streamBridge;
     @Autowired
     private JobLauncherAutoService service;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskDtoCache taskDtoCache;
+    @Autowired
+    private UsedTriggerFilesIndex usedTriggerFilesIndex;
 
     @MockitoBean
     private JobLauncherService jobLauncherService;
     @MockitoBean
     private JobLauncherCommonService jobLauncherCommonService;
-    @MockitoBean
+    @MockitoSpyBean
     private JobLauncherConfigurationProperties jobLauncherConfigurationProperties;
     @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
-    @MockitoBean
     private RestTemplate restTemplate;
 
     @Test
     void runReadyTasksWithNullPointerException() {
-        Mockito.when(restTemplateBuilder.build()).thenThrow(RuntimeException.class);
-
-        service.runReadyTasks(null);
+        service.runReadyTasks(null).block();
 
         Mockito.verifyNoInteractions(jobLauncherCommonService);
     }
@@ -67,7 +78,7 @@ class JobLauncherAutoServiceTest {
     void runReadyTasksWithTaskNotReady(final TaskStatus taskStatus) {
         final TaskDto taskDto = new TaskDto(null, null, taskStatus, null, null, null, null, null, null);
 
-        service.runReadyTasks(taskDto);
+        service.runReadyTasks(taskDto).block();
 
         Mockito.verifyNoInteractions(jobLauncherCommonService);
     }
@@ -102,7 +113,7 @@ class JobLauncherAutoServiceTest {
                 List.of());
         Mockito.when(jobLauncherConfigurationProperties.autoTriggerFiletypes()).thenReturn(List.of("RAOREQUEST", "CRAC"));
 
-        service.runReadyTasks(taskDto);
+        service.runReadyTasks(taskDto).block();
 
         Mockito.verifyNoInteractions(jobLauncherCommonService);
     }
@@ -135,10 +146,11 @@ class JobLauncherAutoServiceTest {
                 List.of(processRunForRaoRequest),
                 List.of());
         Mockito.when(jobLauncherConfigurationProperties.autoTriggerFiletypes()).thenReturn(List.of("RAOREQUEST", "CRAC"));
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any())).thenReturn(Mono.empty());
 
-        service.runReadyTasks(taskDto);
+        service.runReadyTasks(taskDto).block();
 
-        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchJob(Mockito.eq(taskDto), Mockito.anyString());
+        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.eq(LaunchArbiter.Caller.AUTO));
     }
 
     @Test
@@ -170,10 +182,11 @@ class JobLauncherAutoServiceTest {
                 List.of(processRunForCrac, processRunForRaoRequest),
                 List.of());
         Mockito.when(jobLauncherConfigurationProperties.autoTriggerFiletypes()).thenReturn(List.of());
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any())).thenReturn(Mono.empty());
 
-        service.runReadyTasks(taskDto);
+        service.runReadyTasks(taskDto).block();
 
-        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchJob(Mockito.eq(taskDto), Mockito.anyString());
+        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any());
     }
 
     @Test
@@ -181,7 +194,6 @@ class JobLauncherAutoServiceTest {
         final TaskDto taskDto1 = new TaskDto(UUID.fromString("1fdda469-53e9-4d63-a533-b935cffdd2f6"), OffsetDateTime.parse("2022-04-27T10:10Z"), TaskStatus.READY, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         final TaskDto taskDto2 = new TaskDto(UUID.fromString("1fdda469-53e9-4d63-a533-b935cffdd2f7"), OffsetDateTime.parse("2022-04-27T10:11Z"), TaskStatus.READY, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         final TaskDto taskDto3 = new TaskDto(UUID.fromString("1fdda469-53e9-4d63-a533-b935cffdd2f8"), OffsetDateTime.parse("2022-04-27T10:12Z"), TaskStatus.READY, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.doNothing().when(restTemplate).put("http://test-uri/2022-04-27T10:10Z/status?status=PENDING", TaskDto.class);
         Mockito.doThrow(RuntimeException.class).when(restTemplate).put("http://test-uri/2022-04-27T10:11Z/status?status=PENDING", TaskDto.class);
         Mockito.doNothing().when(restTemplate).put("http://test-uri/2022-04-27T10:12Z/status?status=PENDING", TaskDto.class);
@@ -200,4 +212,64 @@ class JobLauncherAutoServiceTest {
             MessageBuilder.withPayload(taskDto3).build()
         ));
     }
+
+    @Test
+    void updatesOfATaskAreProcessedInOrderWhileOtherTasksGoOn() {
+        final UUID slowTaskId = UUID.randomUUID();
+        UUID otherTaskId = UUID.randomUUID();
+        while (service.getLane(readyTask(otherTaskId)) == service.getLane(readyTask(slowTaskId))) {
+            otherTaskId = UUID.randomUUID();
+        }
+        final TaskDto firstUpdate = readyTask(slowTaskId);
+        final TaskDto secondUpdate = readyTask(slowTaskId);
+        final TaskDto otherTaskUpdate = readyTask(otherTaskId);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        Mockito.when(jobLauncherConfigurationProperties.autoTriggerFiletypes()).thenReturn(List.of());
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(firstUpdate), Mockito.anyString(), Mockito.any()))
+                .thenReturn(Mono.delay(Duration.ofMillis(300))
+                        .doOnSubscribe(subscription -> events.add("first started"))
+                        .doOnNext(tick -> events.add("first ended"))
+                        .thenReturn(true));
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(secondUpdate), Mockito.anyString(), Mockito.any()))
+                .thenReturn(Mono.fromSupplier(() -> events.add("second started")));
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(otherTaskUpdate), Mockito.anyString(), Mockito.any()))
+                .thenReturn(Mono.fromSupplier(() -> events.add("other started")));
+        final double processedUpdatesBefore = meterRegistry.timer("job.launcher.auto.update.processing").count();
+
+        service.consumeTaskDtoUpdate().accept(Flux.just(firstUpdate, secondUpdate, otherTaskUpdate));
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> events.size() == 4);
+        Assertions.assertThat(events.indexOf("other started")).isLessThan(events.indexOf("first ended"));
+        Assertions.assertThat(events.indexOf("second started")).isGreaterThan(events.indexOf("first ended"));
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            Assertions.assertThat(meterRegistry.timer("job.launcher.auto.update.processing").count() - processedUpdatesBefore).isEqualTo(3);
+            Assertions.assertThat(meterRegistry.get("job.launcher.auto.updates.pending").gauge().value()).isZero();
+        });
+    }
+
+    @Test
+    void burstOfUpdatesOfATaskIsCoalescedIntoTheLatestOne() {
+        final JobLauncherAutoService coalescingService = new JobLauncherAutoService(jobLauncherConfigurationProperties, jobLauncherCommonService,
+                taskDtoCache, usedTriggerFilesIndex, new SimpleMeterRegistry(), 4, Duration.ofMillis(300), Schedulers.boundedElastic());
+        final UUID taskId = UUID.randomUUID();
+        final TaskDto firstUpdate = readyTask(taskId);
+        final TaskDto secondUpdate = readyTask(taskId);
+        final TaskDto latestUpdate = readyTask(taskId);
+        final TaskDto otherTaskUpdate = readyTask(UUID.randomUUID());
+        Mockito.when(jobLauncherConfigurationProperties.autoTriggerFiletypes()).thenReturn(List.of());
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.any(TaskDto.class), Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(true));
+
+        coalescingService.consumeTaskDtoUpdate().accept(Flux.just(firstUpdate, secondUpdate, latestUpdate, otherTaskUpdate));
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            Mockito.verify(jobLauncherCommonService).launchReadyTaskAsync(Mockito.eq(latestUpdate), Mockito.anyString(), Mockito.any());
+            Mockito.verify(jobLauncherCommonService).launchReadyTaskAsync(Mockito.eq(otherTaskUpdate), Mockito.anyString(), Mockito.any());
+        });
+        Mockito.verify(jobLauncherCommonService, Mockito.never()).launchReadyTaskAsync(Mockito.eq(firstUpdate), Mockito.anyString(), Mockito.any());
+        Mockito.verify(jobLauncherCommonService, Mockito.never()).launchReadyTaskAsync(Mockito.eq(secondUpdate), Mockito.anyString(), Mockito.any());
+    }
+
+    private static TaskDto readyTask(final UUID id) {
+        return new TaskDto(id, OffsetDateTime.parse("2022-04-27T10:10Z"), TaskStatus.READY, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
 }
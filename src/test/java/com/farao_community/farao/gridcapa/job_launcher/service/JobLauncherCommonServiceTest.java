@@ -7,6 +7,7 @@
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
@@ -20,11 +21,15 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.argThat;
@@ -32,7 +37,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-@SpringBootTest
+@SpringBootTest(properties = "job-launcher.run-message.formats.COMPACT_BINDING=COMPACT")
 class JobLauncherCommonServiceTest {
 
     @Autowired
@@ -45,74 +50,170 @@ class JobLauncherCommonServiceTest {
     @MockitoBean
     private InterruptionServerService interruptionServerService;
     @MockitoBean
-    private TaskManagerService taskManagerService;
+    private TaskManagerAsyncService taskManagerAsyncService;
+    @MockitoBean
+    private TaskDtoCache taskDtoCache;
+    @MockitoSpyBean
+    private MessagePublisher messagePublisher;
+    @MockitoSpyBean
+    private LaunchJournal launchJournal;
 
     @Test
-    void launchJobWithErrorAtAddingNewRun() {
+    void launchJobAsyncWithErrorAtAddingNewRun() {
         final String binding = "TEST_BINDING";
         final UUID id = UUID.randomUUID();
         final String timestamp = "2022-04-27T10:10Z";
         final List<ProcessFileDto> inputs = List.of();
         final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(timestamp, inputs)).thenReturn(Optional.empty());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.empty());
 
-        service.launchJob(taskDto, binding);
+        service.launchJobAsync(taskDto, binding).block();
 
+        verify(streamBridge, times(0)).send(eq(binding), Mockito.any());
         verify(streamBridge, times(1)).send(eq("task-status-update"), argThat((TaskStatusUpdate tsu) -> id.equals(tsu.getId()) && tsu.getTaskStatus() == TaskStatus.ERROR));
     }
 
     @Test
-    void launchJobWithErrorAtStatusUpdate() {
+    void launchJobAsyncWithErrorAtStatusUpdate() {
         final String binding = "TEST_BINDING";
         final UUID id = UUID.randomUUID();
         final String timestamp = "2022-04-27T10:10Z";
         final List<ProcessFileDto> inputs = List.of();
         final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
         final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), runHistory, List.of());
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(timestamp, inputs)).thenReturn(Optional.of(taskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING)).thenReturn(false);
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, false)));
 
-        service.launchJob(taskDto, binding);
+        service.launchJobAsync(taskDto, binding).block();
 
         verify(streamBridge, times(1)).send(eq("task-status-update"), argThat((TaskStatusUpdate tsu) -> id.equals(tsu.getId()) && tsu.getTaskStatus() == TaskStatus.ERROR));
+        verify(streamBridge, times(0)).send(eq(binding), Mockito.any());
+        verify(taskDtoCache, times(1)).invalidate(taskDto);
     }
 
     @Test
-    void launchJobWithoutParameters() {
+    void launchJobAsyncWithParameters() {
         final String binding = "TEST_BINDING";
         final UUID id = UUID.randomUUID();
         final String timestamp = "2022-04-27T10:10Z";
         final List<ProcessFileDto> inputs = List.of();
         final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
         final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), runHistory, List.of());
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(timestamp, inputs)).thenReturn(Optional.of(taskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING)).thenReturn(true);
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, true)));
+        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
+
+        service.launchJobAsync(taskDto, binding, parameters).block();
+
+        final ArgumentCaptor<TaskDto> taskDtoCaptor = ArgumentCaptor.forClass(TaskDto.class);
+        verify(streamBridge, times(1)).send(eq(binding), taskDtoCaptor.capture());
+        Assertions.assertThat(taskDtoCaptor.getValue().getParameters()).containsAll(parameters);
+    }
 
-        service.launchJob(taskDto, binding);
+    @Test
+    void launchJobAsyncSendsCompactRunMessageToCompactBinding() {
+        final String binding = "COMPACT_BINDING";
+        final UUID id = UUID.randomUUID();
+        final UUID runId = UUID.randomUUID();
+        final String timestamp = "2022-04-27T10:10Z";
+        final List<ProcessFileDto> inputs = List.of(new ProcessFileDto("path/to/cgm", "CGM", ProcessFileStatus.VALIDATED, "cgm", "docId", OffsetDateTime.now()));
+        final List<ProcessRunDto> runHistory = List.of(
+                new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.parse("2022-04-27T09:00Z"), inputs),
+                new ProcessRunDto(runId, OffsetDateTime.parse("2022-04-27T10:00Z"), inputs));
+        final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, inputs, List.of(), List.of(), runHistory, List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.just(new TaskManagerAsyncService.NewRun(taskDto, runId, true)));
+        Mockito.when(streamBridge.send(Mockito.eq(binding), Mockito.any())).thenReturn(true);
+        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
+
+        Assertions.assertThat(service.launchJobAsync(taskDto, binding, parameters).block()).isTrue();
 
-        verify(streamBridge, times(1)).send(binding, taskDto);
+        final ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge, times(1)).send(eq(binding), messageCaptor.capture());
+        Assertions.assertThat(messageCaptor.getValue().getHeaders()).containsEntry(RunMessage.FORMAT_HEADER, "COMPACT");
+        Assertions.assertThat(messageCaptor.getValue().getPayload())
+                .isEqualTo(new RunMessage(id, OffsetDateTime.parse(timestamp), runId, inputs, parameters));
     }
 
     @Test
-    void launchJobWithParameters() {
+    void launchJobAsyncReportsProgress() {
+        final String timestamp = "2022-04-27T10:10Z";
+        final List<ProcessFileDto> inputs = List.of();
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs))
+                .thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, true)))
+                .thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, false)))
+                .thenReturn(Mono.empty());
+        Mockito.when(streamBridge.send(Mockito.eq("TEST_BINDING"), Mockito.any())).thenReturn(true);
+        final List<LaunchStage> stages = new ArrayList<>();
+
+        service.launchJobAsync(taskDto, "TEST_BINDING", List.of(), (stage, detail) -> stages.add(stage)).block();
+        Assertions.assertThat(stages).containsExactly(LaunchStage.RUN_ADDED, LaunchStage.PENDING_SET, LaunchStage.MESSAGE_SENT);
+
+        stages.clear();
+        service.launchJobAsync(taskDto, "TEST_BINDING", List.of(), (stage, detail) -> stages.add(stage)).block();
+        Assertions.assertThat(stages).containsExactly(LaunchStage.RUN_ADDED, LaunchStage.FAILED);
+
+        stages.clear();
+        service.launchJobAsync(taskDto, "TEST_BINDING", List.of(), (stage, detail) -> stages.add(stage)).block();
+        Assertions.assertThat(stages).containsExactly(LaunchStage.FAILED);
+    }
+
+    @Test
+    void launchJobAsyncFailsWhenRunMessageIsNotSent() {
         final String binding = "TEST_BINDING";
         final UUID id = UUID.randomUUID();
         final String timestamp = "2022-04-27T10:10Z";
         final List<ProcessFileDto> inputs = List.of();
-        final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
-        final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), runHistory, List.of());
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(timestamp, inputs)).thenReturn(Optional.of(taskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING)).thenReturn(true);
-        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
+        final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, true)));
+        Mockito.when(streamBridge.send(Mockito.eq(binding), Mockito.any())).thenReturn(false);
+        final List<LaunchStage> stages = new ArrayList<>();
 
-        service.launchJob(taskDto, binding, parameters);
+        Assertions.assertThat(service.launchJobAsync(taskDto, binding, List.of(), (stage, detail) -> stages.add(stage)).block()).isFalse();
 
-        final ArgumentCaptor<TaskDto> taskDtoCaptor = ArgumentCaptor.forClass(TaskDto.class);
-        verify(streamBridge, times(1)).send(eq(binding), taskDtoCaptor.capture());
-        Assertions.assertThat(taskDtoCaptor.getValue()).isNotNull();
-        Assertions.assertThat(taskDtoCaptor.getValue().getParameters())
-                .isNotEmpty()
-                .containsAll(parameters);
+        Assertions.assertThat(stages).containsExactly(LaunchStage.RUN_ADDED, LaunchStage.PENDING_SET, LaunchStage.FAILED);
+        verify(streamBridge, times(1)).send(eq("task-status-update"), argThat((TaskStatusUpdate tsu) -> id.equals(tsu.getId()) && tsu.getTaskStatus() == TaskStatus.ERROR));
+    }
+
+    @Test
+    void launchJobAsyncLeavesTaskPendingWhenRunMessageIsUnconfirmed() {
+        final String binding = "TEST_BINDING";
+        final String timestamp = "2022-04-27T10:10Z";
+        final List<ProcessFileDto> inputs = List.of();
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.just(TaskManagerAsyncService.NewRun.of(taskDto, true)));
+        Mockito.doReturn(Mono.just(MessagePublisher.SendOutcome.UNCONFIRMED)).when(messagePublisher).send(eq(binding), Mockito.any());
+
+        Assertions.assertThat(service.launchJobAsync(taskDto, binding).block()).isTrue();
+
+        verify(streamBridge, times(0)).send(eq("task-status-update"), Mockito.any());
+    }
+
+    @Test
+    void launchJobAsyncFailingWhileAddingRunSetsTaskToError() {
+        final UUID id = UUID.randomUUID();
+        final String timestamp = "2022-04-27T10:10Z";
+        final List<ProcessFileDto> inputs = List.of();
+        final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.error(new IllegalStateException("Unexpected")));
+        final Mono<Boolean> launch = service.launchJobAsync(taskDto, "TEST_BINDING");
+
+        Assertions.assertThatThrownBy(launch::block).isInstanceOf(IllegalStateException.class);
+
+        verify(launchJournal, times(1)).recordCompleted(Mockito.any());
+        verify(streamBridge, times(1)).send(eq("task-status-update"), argThat((TaskStatusUpdate tsu) -> id.equals(tsu.getId()) && tsu.getTaskStatus() == TaskStatus.ERROR));
+    }
+
+    @Test
+    void launchJobAsyncCancelledWhileAddingRunSetsTaskToError() {
+        final UUID id = UUID.randomUUID();
+        final String timestamp = "2022-04-27T10:10Z";
+        final List<ProcessFileDto> inputs = List.of();
+        final TaskDto taskDto = new TaskDto(id, OffsetDateTime.parse(timestamp), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(taskManagerAsyncService.addNewRunWithPendingStatus(timestamp, inputs)).thenReturn(Mono.never());
+
+        Assertions.assertThat(service.launchJobAsync(taskDto, "TEST_BINDING").timeout(Duration.ofMillis(100), Mono.empty()).blockOptional()).isEmpty();
+
+        verify(launchJournal, times(1)).recordCompleted(Mockito.any());
+        verify(streamBridge, times(1)).send(eq("task-status-update"), argThat((TaskStatusUpdate tsu) -> id.equals(tsu.getId()) && tsu.getTaskStatus() == TaskStatus.ERROR));
     }
 
     @Test
@@ -122,9 +223,9 @@ class JobLauncherCommonServiceTest {
         final UUID taskId = UUID.randomUUID();
         final UUID runId = UUID.randomUUID();
         final TaskDto taskDto = new TaskDto(taskId, timestamp, TaskStatus.RUNNING, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
-        Mockito.when(interruptionServerService.interruptRun(runId, taskDto)).thenReturn(Optional.empty());
+        Mockito.when(interruptionServerService.interruptRun(runId, taskDto)).thenReturn(Mono.empty());
 
-        service.stopJob(runId, taskDto, binding);
+        Assertions.assertThat(service.stopJob(runId, taskDto, binding).block()).isFalse();
 
         verify(streamBridge, times(0)).send(binding, taskId.toString());
         verify(jobLauncherEventsLogger, times(1)).warn(Mockito.anyString(), eq(timestamp));
@@ -137,12 +238,15 @@ class JobLauncherCommonServiceTest {
         final UUID taskId = UUID.randomUUID();
         final UUID runId = UUID.randomUUID();
         final TaskDto taskDto = new TaskDto(taskId, OffsetDateTime.parse(timestamp), TaskStatus.RUNNING, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
-        Mockito.when(interruptionServerService.interruptRun(runId, taskDto)).thenReturn(Optional.of(true));
+        Mockito.when(interruptionServerService.interruptRun(runId, taskDto)).thenReturn(Mono.just(true));
+        Mockito.when(taskManagerAsyncService.updateTaskStatus(timestamp, TaskStatus.STOPPING)).thenReturn(Mono.just(true));
+        Mockito.when(streamBridge.send(binding, runId.toString())).thenReturn(true);
 
-        service.stopJob(runId, taskDto, binding);
+        Assertions.assertThat(service.stopJob(runId, taskDto, binding).block()).isTrue();
 
         verify(interruptionServerService, times(1)).interruptRun(runId, taskDto);
         verify(streamBridge, times(1)).send(binding, runId.toString());
-        verify(taskManagerService, times(1)).updateTaskStatus(timestamp, TaskStatus.STOPPING);
+        verify(taskManagerAsyncService, times(1)).updateTaskStatus(timestamp, TaskStatus.STOPPING);
+        verify(taskDtoCache, times(1)).invalidate(taskDto);
     }
 }
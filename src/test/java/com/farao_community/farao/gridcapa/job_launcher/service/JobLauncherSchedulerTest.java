@@ -8,6 +8,9 @@ package com.farao_community.farao.gridcapa.job_launcher.service;
 
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,9 +19,17 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -32,6 +43,8 @@ class JobLauncherSchedulerTest {
     private JobLauncherCommonService jobLauncherCommonService;
     @MockitoBean
     private TaskManagerService taskManagerService;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private String startingDate;
 
@@ -43,10 +56,13 @@ class JobLauncherSchedulerTest {
     @Test
     void automaticTaskStartNoTasks() {
         Mockito.when(taskManagerService.getTasksFromBusinessDate(startingDate)).thenReturn(Optional.empty());
+        final Timer getTasksTimer = meterRegistry.timer("job.launcher.stage", "stage", "get-tasks", "entry-point", "scheduler", "outcome", "empty");
+        final long getTasksCount = getTasksTimer.count();
 
         jobLauncherScheduler.automaticTaskStart();
 
         Mockito.verifyNoInteractions(jobLauncherCommonService);
+        Assertions.assertThat(getTasksTimer.count()).isEqualTo(getTasksCount + 1);
     }
 
     @Test
@@ -77,8 +93,65 @@ class JobLauncherSchedulerTest {
         final TaskDto[] taskDtoArray = {taskDto};
         Mockito.when(taskManagerService.getTasksFromBusinessDate(startingDate)).thenReturn(Optional.of(taskDtoArray));
 
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(true));
+
+        jobLauncherScheduler.automaticTaskStart();
+
+        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.eq(LaunchArbiter.Caller.SCHEDULER));
+    }
+
+    @Test
+    void automaticTaskStartLaunchesReadyTasksWithBoundedConcurrency() {
+        final TaskDto[] taskDtoArray = IntStream.range(0, 6)
+                .mapToObj(i -> new TaskDto(UUID.randomUUID(), null, TaskStatus.READY, null, null, null, null, null, null))
+                .toArray(TaskDto[]::new);
+        Mockito.when(taskManagerService.getTasksFromBusinessDate(startingDate)).thenReturn(Optional.of(taskDtoArray));
+        final AtomicInteger launchesInFlight = new AtomicInteger();
+        final AtomicInteger maxLaunchesInFlight = new AtomicInteger();
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.any(TaskDto.class), Mockito.anyString(), Mockito.any()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                        .doOnSubscribe(s -> maxLaunchesInFlight.accumulateAndGet(launchesInFlight.incrementAndGet(), Math::max))
+                        .doOnTerminate(launchesInFlight::decrementAndGet)
+                        .thenReturn(true));
+
+        jobLauncherScheduler.automaticTaskStart();
+
+        for (TaskDto taskDto : taskDtoArray) {
+            Mockito.verify(jobLauncherCommonService).launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any());
+        }
+        Assertions.assertThat(maxLaunchesInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void automaticTaskStartIsSkippedWhilePreviousTickIsLaunching() throws Exception {
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), null, TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(taskManagerService.getTasksFromBusinessDate(startingDate)).thenReturn(Optional.of(new TaskDto[]{taskDto}));
+        final CountDownLatch launchStarted = new CountDownLatch(1);
+        final Sinks.One<Boolean> launchResult = Sinks.one();
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any()))
+                .thenAnswer(invocation -> launchResult.asMono().doOnSubscribe(s -> launchStarted.countDown()));
+
+        final CompletableFuture<Void> firstTick = CompletableFuture.runAsync(jobLauncherScheduler::automaticTaskStart);
+        Assertions.assertThat(launchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        jobLauncherScheduler.automaticTaskStart();
+
+        Mockito.verify(taskManagerService, Mockito.times(1)).getTasksFromBusinessDate(startingDate);
+        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchReadyTaskAsync(Mockito.any(), Mockito.anyString(), Mockito.any());
+        launchResult.tryEmitValue(true);
+        firstTick.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void automaticTaskStartGoesOnWhenALaunchFails() {
+        final TaskDto failingTaskDto = new TaskDto(UUID.randomUUID(), null, TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), null, TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto[] taskDtoArray = {failingTaskDto, taskDto};
+        Mockito.when(taskManagerService.getTasksFromBusinessDate(startingDate)).thenReturn(Optional.of(taskDtoArray));
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(failingTaskDto), Mockito.anyString(), Mockito.any())).thenReturn(Mono.error(new IllegalStateException()));
+        Mockito.when(jobLauncherCommonService.launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(true));
+
         jobLauncherScheduler.automaticTaskStart();
 
-        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchJob(Mockito.eq(taskDto), Mockito.anyString());
+        Mockito.verify(jobLauncherCommonService).launchReadyTaskAsync(Mockito.eq(taskDto), Mockito.anyString(), Mockito.any());
     }
 }
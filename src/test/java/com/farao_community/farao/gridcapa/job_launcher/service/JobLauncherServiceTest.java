@@ -10,6 +10,7 @@ import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,8 +22,10 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,14 +45,20 @@ class JobLauncherServiceTest {
     @MockitoBean
     private Logger jobLauncherEventsLogger;
     @MockitoBean
-    private TaskManagerService taskManagerService;
+    private TaskDtoCache taskDtoCache;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(jobLauncherCommonService.launchJobAsync(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any())).thenReturn(Mono.empty());
+        Mockito.when(jobLauncherCommonService.stopJob(Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(Mono.empty());
+    }
 
     @Test
     void launchJobWithNoTaskDtoTest() {
         final String timestamp = "2024-09-18T09:30Z";
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.empty());
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.empty());
 
-        final boolean launchJobResult = service.launchJob(timestamp, List.of());
+        final boolean launchJobResult = service.launchJob(timestamp, List.of()).block();
 
         Assertions.assertThat(launchJobResult).isFalse();
     }
@@ -59,15 +68,15 @@ class JobLauncherServiceTest {
     void testSimultaneity() throws ExecutionException, InterruptedException {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.ERROR, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp))
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp))
                 .thenAnswer(AdditionalAnswers
-                        .answersWithDelay(1000, invocation -> Optional.of(taskDto)));
+                        .answersWithDelay(1000, invocation -> Mono.just(taskDto)));
         // Use CountDownLatch to ensure both threads start simultaneously
         final CountDownLatch startLatch = new CountDownLatch(1);
         final Supplier<Boolean> supplier = () -> {
             try {
                 startLatch.await(); // Both threads wait here
-                return service.launchJob(timestamp, List.of());
+                return service.launchJob(timestamp, List.of()).block();
             } catch (final InterruptedException e) {
                 Thread.currentThread().interrupt();
                 return false;
@@ -85,7 +94,7 @@ class JobLauncherServiceTest {
         Assertions.assertThat(result1 || result2).isTrue(); // At least one should succeed
         Assertions.assertThat(result1 && result2).isFalse(); // Both cannot succeed
         // Ensure that timestamp has been cleared and can be started again
-        Assertions.assertThat(service.launchJob(timestamp, List.of())).isTrue();
+        Assertions.assertThat(service.launchJob(timestamp, List.of()).block()).isTrue();
     }
 
     @Test
@@ -93,15 +102,15 @@ class JobLauncherServiceTest {
     void testException() {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.ERROR, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp))
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp))
                 // crashes on first run
                 .thenThrow(new RuntimeException())
                 // then succeeds on second
-                .thenReturn(Optional.of(taskDto));
+                .thenReturn(Mono.just(taskDto));
         final List<TaskParameterDto> emptyList = List.of();
         Assertions.assertThatExceptionOfType(RuntimeException.class)
-                .isThrownBy(() -> service.launchJob(timestamp, emptyList));
-        Assertions.assertThat(service.launchJob(timestamp, emptyList)).isTrue();
+                .isThrownBy(() -> service.launchJob(timestamp, emptyList).block());
+        Assertions.assertThat(service.launchJob(timestamp, emptyList).block()).isTrue();
     }
 
     @ParameterizedTest
@@ -109,36 +118,74 @@ class JobLauncherServiceTest {
     void launchJobWithNotReadyTask(final TaskStatus taskStatus) {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(taskDto));
 
-        final boolean launchJobResult = service.launchJob(timestamp, List.of());
+        final boolean launchJobResult = service.launchJob(timestamp, List.of()).block();
 
         Assertions.assertThat(launchJobResult).isTrue();
         Mockito.verify(jobLauncherEventsLogger, Mockito.times(1)).warn(Mockito.anyString(), Mockito.any(OffsetDateTime.class));
     }
 
+    @Test
+    void launchProgressIsReported() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.CREATED, null, null, null, null, null, null);
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(taskDto));
+        final List<LaunchStage> stages = new ArrayList<>();
+
+        service.launchJob(timestamp, List.of(), (stage, detail) -> stages.add(stage)).block();
+
+        Assertions.assertThat(stages).containsExactly(LaunchStage.FETCHED, LaunchStage.NOT_READY);
+    }
+
     @ParameterizedTest
     @EnumSource(value = TaskStatus.class, names = {"READY", "SUCCESS", "ERROR", "INTERRUPTED"})
     void launchJobWithReadyTaskAndParameters(final TaskStatus taskStatus) {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(taskDto));
         final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
 
-        final boolean launchJobResult = service.launchJob(timestamp, parameters);
+        final boolean launchJobResult = service.launchJob(timestamp, parameters).block();
 
         Assertions.assertThat(launchJobResult).isTrue();
         final ArgumentCaptor<List<TaskParameterDto>> parametersCaptor = ArgumentCaptor.forClass(List.class);
-        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchJob(Mockito.eq(taskDto), Mockito.anyString(), parametersCaptor.capture());
+        Mockito.verify(jobLauncherCommonService, Mockito.times(1)).launchJobAsync(Mockito.eq(taskDto), Mockito.anyString(), parametersCaptor.capture(), Mockito.any());
         Assertions.assertThat(parametersCaptor.getValue()).isEqualTo(parameters);
     }
 
+    @Test
+    void launchJobRejectsNotReadyCachedTaskWithoutReadingIt() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto cachedTaskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.RUNNING, null, null, null, null, null, null);
+        Mockito.when(taskDtoCache.getCachedTaskFromTimestamp(timestamp)).thenReturn(Optional.of(cachedTaskDto));
+
+        Assertions.assertThat(service.launchJob(timestamp, List.of()).block()).isTrue();
+
+        Mockito.verify(taskDtoCache, Mockito.never()).getFreshTaskFromTimestamp(timestamp);
+        Mockito.verify(jobLauncherCommonService, Mockito.never()).launchJobAsync(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void launchJobReadsReadyCachedTaskAgainBeforeLaunching() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final UUID taskId = UUID.randomUUID();
+        final TaskDto cachedTaskDto = new TaskDto(taskId, OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto freshTaskDto = new TaskDto(taskId, OffsetDateTime.parse(timestamp), TaskStatus.PENDING, null, null, null, null, null, null);
+        Mockito.when(taskDtoCache.getCachedTaskFromTimestamp(timestamp)).thenReturn(Optional.of(cachedTaskDto));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(freshTaskDto));
+
+        Assertions.assertThat(service.launchJob(timestamp, List.of()).block()).isTrue();
+
+        Mockito.verify(jobLauncherCommonService, Mockito.never()).launchJobAsync(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
     @Test
     void stopJobWithNoTaskDtoTest() {
         final String timestamp = "2024-09-18T09:30Z";
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.empty());
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.empty());
 
-        final boolean stopJobResult = service.stopJob(timestamp, UUID.randomUUID());
+        final boolean stopJobResult = service.stopJob(timestamp, UUID.randomUUID()).block();
 
         Assertions.assertThat(stopJobResult).isFalse();
     }
@@ -148,9 +195,9 @@ class JobLauncherServiceTest {
     void stopJobWithNotRunningTask(final TaskStatus taskStatus) {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(taskDto));
 
-        final boolean stopJobResult = service.stopJob(timestamp, UUID.randomUUID());
+        final boolean stopJobResult = service.stopJob(timestamp, UUID.randomUUID()).block();
 
         Assertions.assertThat(stopJobResult).isTrue();
         Mockito.verify(jobLauncherEventsLogger, Mockito.times(1)).warn(Mockito.anyString(), Mockito.any(OffsetDateTime.class));
@@ -162,9 +209,9 @@ class JobLauncherServiceTest {
         final String timestamp = "2024-09-18T09:30Z";
         final UUID runId = UUID.randomUUID();
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(timestamp)).thenReturn(Mono.just(taskDto));
 
-        final boolean stopJobResult = service.stopJob(timestamp, runId);
+        final boolean stopJobResult = service.stopJob(timestamp, runId).block();
 
         Assertions.assertThat(stopJobResult).isTrue();
         Mockito.verify(jobLauncherCommonService, Mockito.times(1)).stopJob(Mockito.eq(runId), Mockito.eq(taskDto), Mockito.anyString());
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.LaunchQueueFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class LaunchAdmissionTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LaunchAdmission launchAdmission(final int maxInFlight, final int queueCapacity, final Duration retryAfter) {
+        return new LaunchAdmission(new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null,
+                new JobLauncherConfigurationProperties.LaunchAdmissionProperties(maxInFlight, queueCapacity, retryAfter), null, null, null, null), meterRegistry);
+    }
+
+    private double outcomeCount(final String outcome) {
+        return meterRegistry.get("job.launcher.launch.admission").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void launchesBeyondMaxInFlightWaitForASlotInOrder() {
+        final LaunchAdmission admission = launchAdmission(1, 2, Duration.ofSeconds(5));
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+        final List<String> launches = new CopyOnWriteArrayList<>();
+
+        final Mono<Boolean> first = admission.admit(TIMESTAMP, () -> {
+            launches.add("first");
+            return firstLaunch.asMono();
+        });
+        final Mono<Boolean> second = admission.admit(TIMESTAMP, () -> {
+            launches.add("second");
+            return Mono.just(false);
+        });
+        final Mono<Boolean> third = admission.admit(TIMESTAMP, () -> {
+            launches.add("third");
+            return Mono.just(true);
+        });
+
+        Assertions.assertThat(launches).containsExactly("first");
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.queue.size").gauge().value()).isEqualTo(2);
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(first.block(TIMEOUT)).isTrue();
+        Assertions.assertThat(second.block(TIMEOUT)).isFalse();
+        Assertions.assertThat(third.block(TIMEOUT)).isTrue();
+        Assertions.assertThat(launches).containsExactly("first", "second", "third");
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.queue.size").gauge().value()).isZero();
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.queue.wait").timer().count()).isEqualTo(3);
+        Assertions.assertThat(outcomeCount("admitted")).isEqualTo(3);
+    }
+
+    @Test
+    void launchIsRejectedWhenQueueIsFull() {
+        final LaunchAdmission admission = launchAdmission(1, 1, Duration.ofSeconds(7));
+        admission.admit(TIMESTAMP, () -> Sinks.<Boolean>one().asMono());
+        admission.admit(TIMESTAMP, () -> Mono.just(true));
+
+        Assertions.assertThatThrownBy(() -> admission.admit(TIMESTAMP, () -> Mono.just(true)))
+                .isInstanceOf(LaunchQueueFullException.class)
+                .extracting(e -> ((LaunchQueueFullException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(7));
+        Assertions.assertThat(outcomeCount("admitted")).isEqualTo(2);
+        Assertions.assertThat(outcomeCount("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void slotIsFreedWhateverTheOutcomeOfTheLaunch() {
+        final LaunchAdmission admission = launchAdmission(1, 0, Duration.ofSeconds(5));
+
+        Assertions.assertThatThrownBy(() -> admission.admit(TIMESTAMP, () -> Mono.<Boolean>error(new IllegalStateException("failed"))).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(admission.admit(TIMESTAMP, Mono::<Boolean>empty).block(TIMEOUT)).isNull();
+        Assertions.assertThatThrownBy(() -> admission.admit(TIMESTAMP, () -> {
+            throw new IllegalStateException("failed");
+        }).block(TIMEOUT)).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(admission.admit(TIMESTAMP, () -> Mono.just(true)).block(TIMEOUT)).isTrue();
+        Assertions.assertThat(outcomeCount("rejected")).isZero();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class LaunchArbiterTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STUCK_AFTER = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private double outcomeCount(final String outcome) {
+        return meterRegistry.get("job.launcher.launch.arbitration").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void rejectPolicyRejectsLaunchOfATimestampBeingLaunched() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+        final AtomicInteger launchesCount = new AtomicInteger();
+
+        final Mono<Boolean> first = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launchesCount.incrementAndGet();
+            return firstLaunch.asMono();
+        }).cache();
+        first.subscribe();
+        final Boolean second = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launchesCount.incrementAndGet();
+            return Mono.just(true);
+        }).block(TIMEOUT);
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(second).isFalse();
+        Assertions.assertThat(first.block(TIMEOUT)).isTrue();
+        Assertions.assertThat(launchesCount.get()).isEqualTo(1);
+        Assertions.assertThat(outcomeCount("started")).isEqualTo(1);
+        Assertions.assertThat(outcomeCount("rejected")).isEqualTo(1);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    void sameInstantWithAnotherOffsetIsTheSameTimestamp() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> firstLaunch.asMono()).subscribe();
+        final Boolean second = arbiter.arbitrate("2024-09-13T11:30+02:00", LaunchArbiter.Caller.MANUAL, queued -> Mono.just(true)).block(TIMEOUT);
+        final Boolean otherTimestamp = arbiter.arbitrate("2024-09-13T10:30Z", LaunchArbiter.Caller.MANUAL, queued -> Mono.just(true)).block(TIMEOUT);
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(second).isFalse();
+        Assertions.assertThat(otherTimestamp).isTrue();
+    }
+
+    @Test
+    void timestampCanBeLaunchedAgainOnceLaunchIsOver() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, STUCK_AFTER, meterRegistry);
+
+        Assertions.assertThat(arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> Mono.error(new IllegalStateException())).onErrorReturn(false).block(TIMEOUT)).isFalse();
+        Assertions.assertThat(arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> Mono.empty()).block(TIMEOUT)).isFalse();
+        Assertions.assertThat(arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> Mono.just(true)).block(TIMEOUT)).isTrue();
+        Assertions.assertThat(outcomeCount("started")).isEqualTo(3);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void launchOfATimestampBeingReleasedCompletesTheReleaseInsteadOfWaitingForIt() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, STUCK_AFTER, meterRegistry);
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> Sinks.<Boolean>one().asMono()).subscribe();
+        // As if the thread releasing the launch had been paused right after marking it released
+        final Map<?, ?> launchesInFlight = (Map<?, ?>) ReflectionTestUtils.getField(arbiter, "launchesInFlight");
+        final AtomicReference<Object> next = (AtomicReference<Object>) ReflectionTestUtils.getField(launchesInFlight.values().iterator().next(), "next");
+        next.set(ReflectionTestUtils.getField(LaunchArbiter.class, "RELEASED"));
+
+        final Boolean launched = assertTimeoutPreemptively(TIMEOUT,
+                () -> arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.SCHEDULER, queued -> Mono.just(true)).block(TIMEOUT));
+
+        Assertions.assertThat(launched).isTrue();
+        Assertions.assertThat(outcomeCount("started")).isEqualTo(2);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    void coalescePolicySharesResultOfTheLaunchInProgress() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.COALESCE, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+        final AtomicInteger launchesCount = new AtomicInteger();
+
+        final Mono<Boolean> first = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launchesCount.incrementAndGet();
+            return firstLaunch.asMono();
+        });
+        final Mono<Boolean> second = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launchesCount.incrementAndGet();
+            return Mono.just(false);
+        });
+        final Mono<List<Boolean>> results = Mono.zip(first, second, List::of).cache();
+        results.subscribe();
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(results.block(TIMEOUT)).containsExactly(true, true);
+        Assertions.assertThat(launchesCount.get()).isEqualTo(1);
+        Assertions.assertThat(outcomeCount("coalesced")).isEqualTo(1);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    void queueOneBehindPolicyLaunchesOnceMoreAfterTheLaunchInProgress() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.QUEUE_ONE_BEHIND, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+        final List<String> launches = new CopyOnWriteArrayList<>();
+
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launches.add("first queued=" + queued);
+            return firstLaunch.asMono();
+        }).subscribe();
+        final Mono<Boolean> second = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launches.add("second queued=" + queued);
+            return Mono.just(true);
+        }).cache();
+        second.subscribe();
+        final Mono<Boolean> third = arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            launches.add("third queued=" + queued);
+            return Mono.just(false);
+        }).cache();
+        third.subscribe();
+
+        Assertions.assertThat(launches).containsExactly("first queued=false");
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(second.block(TIMEOUT)).isTrue();
+        Assertions.assertThat(third.block(TIMEOUT)).isTrue();
+        Assertions.assertThat(launches).containsExactly("first queued=false", "second queued=true");
+        Assertions.assertThat(outcomeCount("started")).isEqualTo(1);
+        Assertions.assertThat(outcomeCount("queued")).isEqualTo(1);
+        Assertions.assertThat(outcomeCount("coalesced")).isEqualTo(1);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    void queuedLaunchIsPerformedEvenWithoutSubscriberAndAfterAFailure() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.QUEUE_ONE_BEHIND, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+        final AtomicInteger queuedLaunchesCount = new AtomicInteger();
+
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> firstLaunch.asMono()).onErrorResume(e -> Mono.empty()).subscribe();
+        // Queued, then the caller goes away
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> {
+            queuedLaunchesCount.incrementAndGet();
+            return Mono.just(true);
+        }).subscribe().dispose();
+        firstLaunch.tryEmitError(new IllegalStateException());
+
+        Assertions.assertThat(queuedLaunchesCount.get()).isEqualTo(1);
+        Assertions.assertThat(arbiter.launchesInFlightCount()).isZero();
+    }
+
+    @Test
+    void launchesInFlightAreListedWithTheirCaller() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.QUEUE_ONE_BEHIND, STUCK_AFTER, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.SCHEDULER, queued -> firstLaunch.asMono()).subscribe();
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> Sinks.<Boolean>one().asMono()).subscribe();
+        arbiter.arbitrate("2024-09-13T10:30Z", LaunchArbiter.Caller.AUTO, queued -> Sinks.<Boolean>one().asMono()).subscribe();
+
+        Assertions.assertThat(arbiter.getLaunchesInFlight())
+                .extracting(LaunchArbiter.LaunchInFlight::timestamp, LaunchArbiter.LaunchInFlight::caller,
+                        LaunchArbiter.LaunchInFlight::stuck, LaunchArbiter.LaunchInFlight::launchQueued)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(TIMESTAMP, LaunchArbiter.Caller.SCHEDULER, false, true),
+                        Assertions.tuple("2024-09-13T10:30Z", LaunchArbiter.Caller.AUTO, false, false));
+        Assertions.assertThat(meterRegistry.get("job.launcher.launches.in-flight").gauge().value()).isEqualTo(2);
+
+        firstLaunch.tryEmitValue(true);
+
+        // The queued launch took the place of the first one
+        Assertions.assertThat(arbiter.getLaunchesInFlight())
+                .extracting(LaunchArbiter.LaunchInFlight::timestamp, LaunchArbiter.LaunchInFlight::caller)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(TIMESTAMP, LaunchArbiter.Caller.MANUAL),
+                        Assertions.tuple("2024-09-13T10:30Z", LaunchArbiter.Caller.AUTO));
+    }
+
+    @Test
+    void launchesInProgressForTooLongAreStuck() {
+        final LaunchArbiter arbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, Duration.ZERO, meterRegistry);
+        final Sinks.One<Boolean> firstLaunch = Sinks.one();
+
+        arbiter.arbitrate(TIMESTAMP, LaunchArbiter.Caller.MANUAL, queued -> firstLaunch.asMono()).subscribe();
+
+        Assertions.assertThat(arbiter.getLaunchesInFlight()).singleElement()
+                .extracting(LaunchArbiter.LaunchInFlight::stuck).isEqualTo(true);
+        Assertions.assertThat(meterRegistry.get("job.launcher.launches.stuck").gauge().value()).isEqualTo(1);
+
+        firstLaunch.tryEmitValue(true);
+
+        Assertions.assertThat(meterRegistry.get("job.launcher.launches.stuck").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares guarding a launch, i.e. registering its timestamp as being launched then releasing it, with the
+ * CopyOnWriteArraySet used before {@link LaunchArbiter}, with the ConcurrentHashMap it relies on, and with
+ * {@link LaunchArbiter} itself, reactive pipeline included, from several threads while other timestamps are being
+ * launched, as during a bulk relaunch of a week of quarter-hour timestamps. Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LaunchGuardBenchmark {
+    private static final OffsetDateTime START = OffsetDateTime.parse("2024-09-09T00:00Z");
+
+    @Param({"96", "672"})
+    private int timestampsInFlight;
+
+    private final AtomicInteger threadsCount = new AtomicInteger();
+    private CopyOnWriteArraySet<String> timestampsBeingLaunched;
+    private Map<Object, Object> launchesInFlight;
+    private LaunchArbiter launchArbiter;
+
+    @State(Scope.Thread)
+    public static class ThreadTimestamp {
+        private String timestamp;
+
+        @Setup
+        public void setUp(final LaunchGuardBenchmark benchmark) {
+            timestamp = START.minusMinutes(15L * (benchmark.threadsCount.incrementAndGet())).toString();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        timestampsBeingLaunched = new CopyOnWriteArraySet<>();
+        launchesInFlight = new ConcurrentHashMap<>();
+        launchArbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        for (int i = 0; i < timestampsInFlight; i++) {
+            final String timestamp = START.plusMinutes(15L * i).toString();
+            timestampsBeingLaunched.add(timestamp);
+            launchesInFlight.put(OffsetDateTime.parse(timestamp).toInstant(), timestamp);
+            launchArbiter.arbitrate(timestamp, LaunchArbiter.Caller.MANUAL, queued -> Sinks.<Boolean>one().asMono()).subscribe();
+        }
+    }
+
+    @Benchmark
+    public boolean copyOnWriteArraySet(final ThreadTimestamp threadTimestamp) {
+        final boolean added = timestampsBeingLaunched.add(threadTimestamp.timestamp);
+        timestampsBeingLaunched.remove(threadTimestamp.timestamp);
+        return added;
+    }
+
+    @Benchmark
+    public boolean concurrentHashMap(final ThreadTimestamp threadTimestamp) {
+        final Object key = OffsetDateTime.parse(threadTimestamp.timestamp).toInstant();
+        final boolean added = launchesInFlight.putIfAbsent(key, threadTimestamp.timestamp) == null;
+        launchesInFlight.remove(key, threadTimestamp.timestamp);
+        return added;
+    }
+
+    @Benchmark
+    public Boolean launchArbiter(final ThreadTimestamp threadTimestamp) {
+        return launchArbiter.arbitrate(threadTimestamp.timestamp, LaunchArbiter.Caller.MANUAL, queued -> Mono.just(true)).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LaunchGuardBenchmark.class.getSimpleName()).build()).run();
+    }
+}
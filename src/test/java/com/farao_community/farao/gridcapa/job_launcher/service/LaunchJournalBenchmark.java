@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the {@link LaunchJournal} per launch, from several threads launching at the same time: the intent is
+ * recorded and synced, then the run added and the launch completed, as {@link JobLauncherCommonService} does. The
+ * journal is either disabled, written without sync, surviving a crash of the application only, or synced in batches.
+ * Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LaunchJournalBenchmark {
+    private static final String RUN_BINDING = "run-task";
+
+    @Param({"disabled", "no-sync", "sync"})
+    private String journalMode;
+
+    private Path journalDirectory;
+    private LaunchJournal launchJournal;
+    private TaskDto taskDto;
+    private UUID runId;
+    private List<TaskParameterDto> parameters;
+
+    @Setup
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("launch-journal");
+        launchJournal = new LaunchJournal(new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null, null,
+                new JobLauncherConfigurationProperties.LaunchJournalProperties(!"disabled".equals(journalMode), journalDirectory.resolve("launches.journal"),
+                        "sync".equals(journalMode), DataSize.ofMegabytes(16), LaunchJournalReplayer.ReplayPolicy.COMPLETE), null, null, null),
+                new SimpleMeterRegistry());
+        taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-13T09:30Z"), TaskStatus.READY,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        runId = UUID.randomUUID();
+        parameters = List.of(new TaskParameterDto("id", "STRING", "value", "default"));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException, IOException {
+        launchJournal.close();
+        try (var files = Files.walk(journalDirectory)) {
+            files.sorted((first, second) -> second.compareTo(first)).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public UUID journaledLaunch() {
+        final UUID launchId = launchJournal.recordIntent(taskDto, RUN_BINDING, parameters).block();
+        launchJournal.recordRunAdded(launchId, runId);
+        launchJournal.recordCompleted(launchId);
+        return launchId;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LaunchJournalBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class LaunchJournalReplayerTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+    private static final String RUN_BINDING = "run-task";
+    private static final List<TaskParameterDto> PARAMETERS = List.of(new TaskParameterDto("id", "STRING", "value", "default"));
+
+    private final LaunchJournal launchJournal = Mockito.mock(LaunchJournal.class);
+    private final JobLauncherCommonService jobLauncherCommonService = Mockito.mock(JobLauncherCommonService.class);
+    private final TaskDtoCache taskDtoCache = Mockito.mock(TaskDtoCache.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LaunchJournalReplayer replayer(final LaunchJournalReplayer.ReplayPolicy replayPolicy) {
+        return new LaunchJournalReplayer(launchJournal, jobLauncherCommonService, taskDtoCache,
+                new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null, null,
+                        new JobLauncherConfigurationProperties.LaunchJournalProperties(true, Path.of("launch-journal"), true, DataSize.ofMegabytes(16), replayPolicy),
+                        null, null, null),
+                meterRegistry);
+    }
+
+    private static TaskDto task(final TaskStatus status, final UUID latestRunId) {
+        return new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(TIMESTAMP), status, List.of(), List.of(), List.of(), List.of(),
+                List.of(new ProcessRunDto(latestRunId, OffsetDateTime.parse("2024-09-13T09:00Z"), List.of())), List.of());
+    }
+
+    private static LaunchJournal.LaunchIntent intent(final UUID runId) {
+        return new LaunchJournal.LaunchIntent(UUID.randomUUID(), UUID.randomUUID(), TIMESTAMP, RUN_BINDING, PARAMETERS, runId);
+    }
+
+    @Test
+    void pendingTaskWithTheRunOfTheLaunchIsCompleted() {
+        final UUID runId = UUID.randomUUID();
+        final LaunchJournal.LaunchIntent intent = intent(runId);
+        final TaskDto pendingTask = task(TaskStatus.PENDING, runId);
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(intent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(pendingTask));
+        Mockito.when(jobLauncherCommonService.resumeLaunch(pendingTask, runId, RUN_BINDING, PARAMETERS)).thenReturn(Mono.just(true));
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPLETE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.COMPLETED);
+        Mockito.verify(jobLauncherCommonService).resumeLaunch(pendingTask, runId, RUN_BINDING, PARAMETERS);
+        Mockito.verify(launchJournal).recordCompleted(intent.launchId());
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.journal.replayed").tag("outcome", "completed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingTaskWhoseRunMessageIsNotSentHasFailed() {
+        final UUID runId = UUID.randomUUID();
+        final LaunchJournal.LaunchIntent intent = intent(runId);
+        final TaskDto pendingTask = task(TaskStatus.PENDING, runId);
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(intent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(pendingTask));
+        Mockito.when(jobLauncherCommonService.resumeLaunch(pendingTask, runId, RUN_BINDING, PARAMETERS)).thenReturn(Mono.just(false));
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPLETE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.FAILED);
+        Mockito.verify(launchJournal).recordCompleted(intent.launchId());
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.journal.replayed").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingTaskIsSetToErrorWhenCompensating() {
+        final UUID runId = UUID.randomUUID();
+        final LaunchJournal.LaunchIntent intent = intent(runId);
+        final TaskDto pendingTask = task(TaskStatus.PENDING, runId);
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(intent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(pendingTask));
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPENSATE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.COMPENSATED);
+        Mockito.verify(jobLauncherCommonService).compensateLaunch(pendingTask);
+        Mockito.verify(launchJournal).recordCompleted(intent.launchId());
+    }
+
+    @Test
+    void pendingTaskWithUnknownRunIsLeftToAnOperator() {
+        final LaunchJournal.LaunchIntent intent = intent(null);
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(intent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(task(TaskStatus.PENDING, UUID.randomUUID())));
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPLETE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.UNRESOLVED);
+        Mockito.verifyNoInteractions(jobLauncherCommonService);
+        Mockito.verify(launchJournal).recordCompleted(intent.launchId());
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch.journal.replayed").tag("outcome", "unresolved").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void taskNotPendingOrWithAnotherRunHasNothingToResume() {
+        final LaunchJournal.LaunchIntent readyIntent = new LaunchJournal.LaunchIntent(UUID.randomUUID(), UUID.randomUUID(), TIMESTAMP, RUN_BINDING, List.of(), null);
+        final LaunchJournal.LaunchIntent otherRunIntent = intent(UUID.randomUUID());
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(readyIntent, otherRunIntent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP))
+                .thenReturn(Mono.just(task(TaskStatus.READY, UUID.randomUUID())))
+                .thenReturn(Mono.just(task(TaskStatus.PENDING, UUID.randomUUID())));
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPLETE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.NOTHING_TO_RESUME, LaunchJournalReplayer.ReplayOutcome.NOTHING_TO_RESUME);
+        Mockito.verifyNoInteractions(jobLauncherCommonService);
+        Mockito.verify(launchJournal).recordCompleted(readyIntent.launchId());
+        Mockito.verify(launchJournal).recordCompleted(otherRunIntent.launchId());
+    }
+
+    @Test
+    void launchIsKeptWhenTaskCannotBeRead() {
+        final LaunchJournal.LaunchIntent intent = intent(null);
+        Mockito.when(launchJournal.getIntentsToReplay()).thenReturn(List.of(intent));
+        Mockito.when(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.empty());
+
+        final List<LaunchJournalReplayer.ReplayOutcome> outcomes = replayer(LaunchJournalReplayer.ReplayPolicy.COMPLETE).replay().collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(outcomes).containsExactly(LaunchJournalReplayer.ReplayOutcome.KEPT);
+        Mockito.verify(launchJournal, Mockito.never()).recordCompleted(Mockito.any());
+    }
+}
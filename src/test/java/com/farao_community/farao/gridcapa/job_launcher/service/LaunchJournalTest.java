@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class LaunchJournalTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String RUN_BINDING = "run-task";
+
+    @TempDir
+    private Path journalDirectory;
+
+    private LaunchJournal openJournal(final DataSize compactAbove) {
+        return journal(true, compactAbove);
+    }
+
+    private LaunchJournal journal(final boolean enabled, final DataSize compactAbove) {
+        return new LaunchJournal(new JobLauncherConfigurationProperties(null, null, List.of(), null, null, null, null, null, false, null, null,
+                new JobLauncherConfigurationProperties.LaunchJournalProperties(enabled, journalDirectory.resolve("launches.journal"), true, compactAbove,
+                        LaunchJournalReplayer.ReplayPolicy.COMPLETE), null, null, null), new SimpleMeterRegistry());
+    }
+
+    private static TaskDto task(final String timestamp) {
+        return new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    @Test
+    void launchesNotCompletedAreReplayedAfterARestart() throws InterruptedException {
+        final LaunchJournal journal = openJournal(DataSize.ofMegabytes(1));
+        final TaskDto completedTask = task("2024-09-13T09:30Z");
+        final TaskDto interruptedTask = task("2024-09-13T10:30Z");
+        final UUID runId = UUID.randomUUID();
+        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "STRING", "value", "default"));
+
+        final UUID completedLaunchId = journal.recordIntent(completedTask, RUN_BINDING, List.of()).block(TIMEOUT);
+        journal.recordRunAdded(completedLaunchId, UUID.randomUUID());
+        journal.recordCompleted(completedLaunchId);
+        final UUID interruptedLaunchId = journal.recordIntent(interruptedTask, RUN_BINDING, parameters).block(TIMEOUT);
+        journal.recordRunAdded(interruptedLaunchId, runId);
+        journal.close();
+
+        final LaunchJournal restartedJournal = openJournal(DataSize.ofMegabytes(1));
+
+        Assertions.assertThat(restartedJournal.getIntentsToReplay()).singleElement().satisfies(intent -> {
+            Assertions.assertThat(intent.launchId()).isEqualTo(interruptedLaunchId);
+            Assertions.assertThat(intent.taskId()).isEqualTo(interruptedTask.getId());
+            Assertions.assertThat(intent.timestamp()).isEqualTo("2024-09-13T10:30Z");
+            Assertions.assertThat(intent.runBinding()).isEqualTo(RUN_BINDING);
+            Assertions.assertThat(intent.parameters()).singleElement().extracting(TaskParameterDto::getValue).isEqualTo("value");
+            Assertions.assertThat(intent.runId()).isEqualTo(runId);
+        });
+        restartedJournal.close();
+    }
+
+    @Test
+    void tornRecordAtTheEndOfTheJournalIsIgnored() throws InterruptedException, IOException {
+        final LaunchJournal journal = openJournal(DataSize.ofMegabytes(1));
+        final UUID launchId = journal.recordIntent(task("2024-09-13T09:30Z"), RUN_BINDING, null).block(TIMEOUT);
+        journal.close();
+        // Record interrupted by a crash while being written
+        Files.write(journalDirectory.resolve("launches.journal"), new byte[] {0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        final LaunchJournal restartedJournal = openJournal(DataSize.ofMegabytes(1));
+
+        Assertions.assertThat(restartedJournal.getIntentsToReplay()).singleElement()
+                .satisfies(intent -> {
+                    Assertions.assertThat(intent.launchId()).isEqualTo(launchId);
+                    Assertions.assertThat(intent.parameters()).isEmpty();
+                    Assertions.assertThat(intent.runId()).isNull();
+                });
+        restartedJournal.close();
+    }
+
+    @Test
+    void journalIsCompactedOnceItGrewTooMuch() throws InterruptedException, IOException {
+        final LaunchJournal journal = openJournal(DataSize.ofBytes(2048));
+        final UUID openLaunchId = journal.recordIntent(task("2024-09-13T09:30Z"), RUN_BINDING, List.of()).block(TIMEOUT);
+        for (int i = 0; i < 50; i++) {
+            final UUID launchId = journal.recordIntent(task("2024-09-13T10:30Z"), RUN_BINDING, List.of()).block(TIMEOUT);
+            journal.recordCompleted(launchId);
+        }
+        journal.close();
+
+        Assertions.assertThat(Files.size(journalDirectory.resolve("launches.journal"))).isLessThan(4096);
+        final LaunchJournal restartedJournal = openJournal(DataSize.ofBytes(2048));
+        Assertions.assertThat(restartedJournal.getIntentsToReplay()).extracting(LaunchJournal.LaunchIntent::launchId).containsExactly(openLaunchId);
+        restartedJournal.close();
+    }
+
+    @Test
+    void nothingIsJournaledWhenDisabled() throws InterruptedException {
+        final LaunchJournal journal = journal(false, DataSize.ofMegabytes(1));
+
+        Assertions.assertThat(journal.recordIntent(task("2024-09-13T09:30Z"), RUN_BINDING, List.of()).block(TIMEOUT)).isNotNull();
+        journal.close();
+
+        Assertions.assertThat(journalDirectory).isEmptyDirectory();
+        Assertions.assertThat(journal.getIntentsToReplay()).isEmpty();
+    }
+}
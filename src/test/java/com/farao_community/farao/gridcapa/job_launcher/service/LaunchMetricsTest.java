@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+class LaunchMetricsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LaunchMetrics launchMetrics = new LaunchMetrics(meterRegistry);
+
+    private long stageCount(final String entryPoint, final String outcome) {
+        return meterRegistry.get("job.launcher.stage")
+                .tag("stage", LaunchMetrics.ADD_RUN)
+                .tag("entry-point", entryPoint)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Test
+    void stageIsTaggedWithEntryPointOfItsPipeline() {
+        launchMetrics.timeStage(LaunchMetrics.ADD_RUN, Mono.just(true))
+                .contextWrite(LaunchMetrics.withEntryPoint(LaunchArbiter.Caller.SCHEDULER))
+                .block();
+
+        Assertions.assertThat(stageCount("scheduler", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void stageOutsideOfAPipelineIsTaggedOther() {
+        launchMetrics.timeStage(LaunchMetrics.ADD_RUN, Mono.just(false)).block();
+        launchMetrics.timeStage(LaunchMetrics.ADD_RUN, Mono.empty()).block();
+
+        Assertions.assertThat(stageCount("other", "failure")).isEqualTo(1);
+        Assertions.assertThat(stageCount("other", "empty")).isEqualTo(1);
+    }
+
+    @Test
+    void failedStageIsRecordedAsError() {
+        final Mono<Boolean> stage = launchMetrics.timeStage(LaunchMetrics.ADD_RUN, Mono.error(new IllegalStateException()));
+
+        Assertions.assertThatIllegalStateException().isThrownBy(stage::block);
+        Assertions.assertThat(stageCount("other", "error")).isEqualTo(1);
+    }
+
+    @Test
+    void launchesAreTaggedWithTheirCaller() {
+        final LaunchArbiter launchArbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, Duration.ofMinutes(10), meterRegistry);
+
+        launchArbiter.arbitrate("2024-09-13T09:30Z", LaunchArbiter.Caller.AUTO,
+                queued -> launchMetrics.timeLaunch(launchMetrics.timeStage(LaunchMetrics.ADD_RUN, Mono.just(true)))).block();
+
+        Assertions.assertThat(stageCount("auto", "success")).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.launch").tag("entry-point", "auto").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.RetryConfiguration;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of a launch adding the run and setting the PENDING status in one task-manager request with
+ * the two-request sequence, against a local task-manager stand-in answering each request after a fixed delay.
+ * Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LaunchRequestsBenchmark {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+    private static final String PENDING_TASK_JSON = "{\"id\":\"1fdda469-53e9-4d63-a533-b935cffdd2f6\",\"timestamp\":\"2024-09-13T09:30Z\",\"status\":\"PENDING\"}";
+
+    @Param({"2", "10"})
+    private long taskManagerLatencyMillis;
+
+    private TaskManagerAsyncService combinedLaunchService;
+    private TaskManagerAsyncService twoStepLaunchService;
+
+    @Setup
+    public void setUp() {
+        combinedLaunchService = taskManagerStandIn(true);
+        twoStepLaunchService = taskManagerStandIn(false);
+    }
+
+    @Benchmark
+    public TaskManagerAsyncService.NewRun combinedLaunch() {
+        return combinedLaunchService.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+    }
+
+    @Benchmark
+    public TaskManagerAsyncService.NewRun twoStepLaunch() {
+        return twoStepLaunchService.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+    }
+
+    private TaskManagerAsyncService taskManagerStandIn(final boolean combinedLaunch) {
+        final JobLauncherConfigurationProperties properties = new JobLauncherConfigurationProperties(
+                new JobLauncherConfigurationProperties.UrlProperties("http://task-manager/tasks/", "http://task-manager/tasks/businessdate/", "http://interruption-server/", null),
+                null,
+                List.of(),
+                null,
+                null,
+                null, null, null, combinedLaunch, null, null, null, null, null, null);
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(taskManagerLatencyMillis))
+                        .then(respond()))
+                .build();
+        return new TaskManagerAsyncService(properties, webClient, new RetryConfiguration().jobLauncherRetrySpec(10, 2, 0.5, 3),
+                new SimpleMeterRegistry(), CircuitBreakerRegistry.ofDefaults(), new LaunchMetrics(new SimpleMeterRegistry()), Schedulers.immediate());
+    }
+
+    private static Mono<ClientResponse> respond() {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(PENDING_TASK_JSON)
+                .build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LaunchRequestsBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
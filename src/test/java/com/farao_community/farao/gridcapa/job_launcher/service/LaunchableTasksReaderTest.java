@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+class LaunchableTasksReaderTest {
+    private final LaunchableTasksReader reader = new LaunchableTasksReader(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void readKeepsOnlyFieldsNeededToLaunchTasks() throws IOException {
+        final UUID taskId = UUID.randomUUID();
+        final String body = """
+                [{
+                  "id": "%s",
+                  "timestamp": "2024-09-13T09:30Z",
+                  "status": "READY",
+                  "inputs": [{"fileType": "CGM", "filename": "cgm.uct", "processFileStatus": "VALIDATED"}],
+                  "availableInputs": [{"fileType": "CGM", "filename": "cgm.uct"}],
+                  "outputs": [{"fileType": "CNE", "filename": "cne.xml"}],
+                  "processEvents": [{"level": "INFO", "message": "Task launched", "nested": {"deep": [1, 2, {"a": null}]}}],
+                  "runHistory": [{"id": "%s"}],
+                  "parameters": [{"id": "KEY", "value": "VALUE"}],
+                  "unknownField": {"x": [true]}
+                }, {"status": "SUCCESS"}]
+                """.formatted(taskId, UUID.randomUUID());
+
+        final TaskDto[] taskDtos = reader.read(asStream(body));
+
+        Assertions.assertThat(taskDtos).hasSize(2);
+        final TaskDto taskDto = taskDtos[0];
+        Assertions.assertThat(taskDto.getId()).isEqualTo(taskId);
+        Assertions.assertThat(taskDto.getTimestamp()).isEqualTo(OffsetDateTime.parse("2024-09-13T09:30Z"));
+        Assertions.assertThat(taskDto.getStatus()).isEqualTo(TaskStatus.READY);
+        Assertions.assertThat(taskDto.getInputs()).hasSize(1);
+        Assertions.assertThat(taskDto.getInputs().getFirst().getFilename()).isEqualTo("cgm.uct");
+        Assertions.assertThat(taskDto.getAvailableInputs()).isEmpty();
+        Assertions.assertThat(taskDto.getOutputs()).isEmpty();
+        Assertions.assertThat(taskDto.getProcessEvents()).isEmpty();
+        Assertions.assertThat(taskDto.getRunHistory()).isEmpty();
+        Assertions.assertThat(taskDto.getParameters()).isEmpty();
+        Assertions.assertThat(taskDtos[1].getStatus()).isEqualTo(TaskStatus.SUCCESS);
+    }
+
+    @Test
+    void readEmptyArray() throws IOException {
+        Assertions.assertThat(reader.read(asStream("[]"))).isEmpty();
+    }
+
+    @Test
+    void readFailsWhenBodyIsNotAnArray() {
+        final InputStream body = asStream("{\"status\": \"READY\"}");
+        Assertions.assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> reader.read(body));
+    }
+
+    @Test
+    void readFailsWhenArrayIsTruncated() {
+        final InputStream body = asStream("[{\"status\": \"READY\"}, {\"status\": ");
+        Assertions.assertThatExceptionOfType(IOException.class).isThrownBy(() -> reader.read(body));
+    }
+
+    private static InputStream asStream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+class MessageCompressionInterceptorTest {
+    private final MessageCompressionInterceptor interceptor = new MessageCompressionInterceptor(DataSize.ofBytes(100));
+    private final MessageChannel channel = Mockito.mock(MessageChannel.class);
+
+    @Test
+    void smallMessageIsNotCompressed() {
+        final Message<byte[]> message = MessageBuilder.withPayload("{}".getBytes(StandardCharsets.UTF_8)).build();
+
+        Assertions.assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void largeMessageIsGzippedWithItsHeadersKept() throws IOException {
+        final byte[] payload = "{\"processEvents\":[]}".repeat(50).getBytes(StandardCharsets.UTF_8);
+        final Message<byte[]> message = MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+                .build();
+
+        final Message<?> compressedMessage = interceptor.preSend(message, channel);
+
+        Assertions.assertThat(compressedMessage.getHeaders())
+                .containsEntry(AmqpHeaders.CONTENT_ENCODING, MessageCompressionInterceptor.GZIP)
+                .containsEntry(MessageHeaders.CONTENT_TYPE, "application/json");
+        final byte[] compressedPayload = (byte[]) compressedMessage.getPayload();
+        Assertions.assertThat(compressedPayload).hasSizeLessThan(payload.length);
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedPayload))) {
+            Assertions.assertThat(gzipInputStream.readAllBytes()).isEqualTo(payload);
+        }
+    }
+
+    @Test
+    void messageAlreadyEncodedIsNotCompressedAgain() {
+        final Message<byte[]> message = MessageBuilder.withPayload(new byte[1000])
+                .setHeader(AmqpHeaders.CONTENT_ENCODING, MessageCompressionInterceptor.GZIP)
+                .build();
+
+        Assertions.assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class MessagePublisherTest {
+    private static final String BINDING = "run-task";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StreamBridge streamBridge = Mockito.mock(StreamBridge.class);
+    // Stand-in for the broker: keeps the correlation data of sent messages, to confirm them later on
+    private final List<CorrelationData> unconfirmed = new ArrayList<>();
+
+    private MessagePublisher confirmingPublisher(final Duration confirmTimeout) {
+        Mockito.when(streamBridge.send(Mockito.eq(BINDING), Mockito.any(Message.class))).thenAnswer(invocation -> {
+            final Message<?> message = invocation.getArgument(1);
+            unconfirmed.add(message.getHeaders().get(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION, CorrelationData.class));
+            return true;
+        });
+        return new MessagePublisher(streamBridge, true, "correlated", confirmTimeout, meterRegistry, Schedulers.immediate());
+    }
+
+    private void confirmAll(final boolean ack) {
+        unconfirmed.forEach(correlationData -> correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "rejected")));
+        unconfirmed.clear();
+    }
+
+    private long confirmCount(final String outcome) {
+        return meterRegistry.get("job.launcher.publish.confirm").tag("binding", BINDING).tag("outcome", outcome).timer().count();
+    }
+
+    private double outstandingConfirms() {
+        return meterRegistry.get("job.launcher.publish.confirms.outstanding").gauge().value();
+    }
+
+    @Test
+    void payloadIsSentAsIsWithoutConfirms() {
+        final MessagePublisher publisher = new MessagePublisher(streamBridge, false, "none", TIMEOUT, meterRegistry, Schedulers.immediate());
+        Mockito.when(streamBridge.send(BINDING, "payload")).thenReturn(true);
+
+        Assertions.assertThat(publisher.send(BINDING, "payload").block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.SENT);
+        Assertions.assertThat(publisher.send("stop-task", "payload").block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.NOT_SENT);
+        Mockito.verify(streamBridge).send(BINDING, "payload");
+    }
+
+    @Test
+    void messagesAreSentOnlyOnceConfirmedInBatch() {
+        final MessagePublisher publisher = confirmingPublisher(TIMEOUT);
+
+        final List<Mono<MessagePublisher.SendOutcome>> results = IntStream.range(0, 100)
+                .mapToObj(i -> publisher.send(BINDING, "payload-" + i).cache())
+                .toList();
+        results.forEach(Mono::subscribe);
+
+        Assertions.assertThat(unconfirmed).hasSize(100);
+        Assertions.assertThat(outstandingConfirms()).isEqualTo(100);
+        confirmAll(true);
+
+        Assertions.assertThat(results).allSatisfy(result -> Assertions.assertThat(result.block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.SENT));
+        Assertions.assertThat(confirmCount("ack")).isEqualTo(100);
+        Assertions.assertThat(outstandingConfirms()).isZero();
+    }
+
+    @Test
+    void headersOfMessageAreKept() {
+        final MessagePublisher publisher = confirmingPublisher(TIMEOUT);
+        final ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+
+        final Mono<MessagePublisher.SendOutcome> result = publisher.send(BINDING, MessageBuilder.withPayload("payload").setHeader("format", "COMPACT").build());
+        confirmAll(true);
+
+        Assertions.assertThat(result.block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.SENT);
+        Mockito.verify(streamBridge).send(Mockito.eq(BINDING), messageCaptor.capture());
+        Assertions.assertThat(messageCaptor.getValue().getPayload()).isEqualTo("payload");
+        Assertions.assertThat(messageCaptor.getValue().getHeaders()).containsEntry("format", "COMPACT");
+    }
+
+    @Test
+    void rejectedMessageIsNotSent() {
+        final MessagePublisher publisher = confirmingPublisher(TIMEOUT);
+
+        final Mono<MessagePublisher.SendOutcome> result = publisher.send(BINDING, "payload");
+        confirmAll(false);
+
+        Assertions.assertThat(result.block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.NOT_SENT);
+        Assertions.assertThat(confirmCount("nack")).isEqualTo(1);
+    }
+
+    @Test
+    void messageNotConfirmedInTimeIsUnconfirmed() {
+        final MessagePublisher publisher = confirmingPublisher(Duration.ofMillis(50));
+
+        Assertions.assertThat(publisher.send(BINDING, "payload").block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.UNCONFIRMED);
+        Assertions.assertThat(confirmCount("unconfirmed")).isEqualTo(1);
+        Assertions.assertThat(outstandingConfirms()).isZero();
+    }
+
+    @Test
+    void messageRefusedByTheBinderIsNotSent() {
+        final MessagePublisher publisher = new MessagePublisher(streamBridge, true, "correlated", TIMEOUT, meterRegistry, Schedulers.immediate());
+
+        Assertions.assertThat(publisher.send(BINDING, "payload").block(TIMEOUT)).isEqualTo(MessagePublisher.SendOutcome.NOT_SENT);
+        Assertions.assertThat(meterRegistry.get("job.launcher.publish.unsent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void confirmsRequireCorrelatedConfirmType() {
+        final Scheduler launchScheduler = Schedulers.immediate();
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> new MessagePublisher(streamBridge, true, "none", TIMEOUT, meterRegistry, launchScheduler))
+                .withMessageContaining("spring.rabbitmq.publisher-confirm-type");
+    }
+}
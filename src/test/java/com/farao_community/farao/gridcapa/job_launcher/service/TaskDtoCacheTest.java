@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class TaskDtoCacheTest {
+    private static final String TIMESTAMP = "2024-09-18T09:30Z";
+
+    private final TaskManagerAsyncService taskManagerAsyncService = Mockito.mock(TaskManagerAsyncService.class);
+    private final TaskDtoCache taskDtoCache = new TaskDtoCache(
+            new JobLauncherConfigurationProperties(null, null, List.of(), new JobLauncherConfigurationProperties.TaskCacheProperties(10, Duration.ofMinutes(1)), null, null, null, null, false, null, null, null, null, null, null),
+            taskManagerAsyncService);
+
+    private static TaskDto taskDto(final String timestamp, final TaskStatus status) {
+        return new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), status, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    @Test
+    void secondReadIsServedFromCache() {
+        final TaskDto taskDto = taskDto(TIMESTAMP, TaskStatus.READY);
+        Mockito.when(taskManagerAsyncService.getTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(taskDto));
+
+        Assertions.assertThat(taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block()).isSameAs(taskDto);
+        Assertions.assertThat(taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block()).isSameAs(taskDto);
+
+        Mockito.verify(taskManagerAsyncService, Mockito.times(1)).getTaskFromTimestamp(TIMESTAMP);
+    }
+
+    @Test
+    void sameInstantWithAnotherOffsetIsServedFromCache() {
+        final TaskDto taskDto = taskDto(TIMESTAMP, TaskStatus.READY);
+        taskDtoCache.update(taskDto);
+
+        Assertions.assertThat(taskDtoCache.getTaskFromTimestamp("2024-09-18T11:30+02:00").block()).isSameAs(taskDto);
+        Mockito.verifyNoInteractions(taskManagerAsyncService);
+    }
+
+    @Test
+    void updateEventRefreshesCachedTask() {
+        Mockito.when(taskManagerAsyncService.getTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(taskDto(TIMESTAMP, TaskStatus.READY)));
+        taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block();
+        final TaskDto updatedTaskDto = taskDto(TIMESTAMP, TaskStatus.RUNNING);
+
+        taskDtoCache.update(updatedTaskDto);
+
+        Assertions.assertThat(taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block()).isSameAs(updatedTaskDto);
+        Mockito.verify(taskManagerAsyncService, Mockito.times(1)).getTaskFromTimestamp(TIMESTAMP);
+    }
+
+    @Test
+    void invalidatedTaskIsReadAgain() {
+        final TaskDto taskDto = taskDto(TIMESTAMP, TaskStatus.READY);
+        Mockito.when(taskManagerAsyncService.getTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(taskDto));
+        taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block();
+
+        taskDtoCache.invalidate(taskDto);
+        taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Mockito.verify(taskManagerAsyncService, Mockito.times(2)).getTaskFromTimestamp(TIMESTAMP);
+    }
+
+    @Test
+    void cachedReadNeverReadsTask() {
+        final TaskDto taskDto = taskDto(TIMESTAMP, TaskStatus.READY);
+
+        Assertions.assertThat(taskDtoCache.getCachedTaskFromTimestamp(TIMESTAMP)).isEmpty();
+        taskDtoCache.update(taskDto);
+        Assertions.assertThat(taskDtoCache.getCachedTaskFromTimestamp(TIMESTAMP)).containsSame(taskDto);
+        Mockito.verifyNoInteractions(taskManagerAsyncService);
+    }
+
+    @Test
+    void freshReadBypassesCache() {
+        final TaskDto taskDto = taskDto(TIMESTAMP, TaskStatus.READY);
+        taskDtoCache.update(taskDto(TIMESTAMP, TaskStatus.CREATED));
+        Mockito.when(taskManagerAsyncService.getTaskFromTimestamp(TIMESTAMP)).thenReturn(Mono.just(taskDto));
+
+        Assertions.assertThat(taskDtoCache.getFreshTaskFromTimestamp(TIMESTAMP).block()).isSameAs(taskDto);
+        Assertions.assertThat(taskDtoCache.getTaskFromTimestamp(TIMESTAMP).block()).isSameAs(taskDto);
+    }
+
+    @Test
+    void unparsableTimestampIsNeverCached() {
+        final String timestamp = "2021-12-09T21:30";
+        Mockito.when(taskManagerAsyncService.getTaskFromTimestamp(timestamp)).thenReturn(Mono.empty());
+
+        taskDtoCache.getTaskFromTimestamp(timestamp).block();
+        taskDtoCache.getTaskFromTimestamp(timestamp).block();
+
+        Mockito.verify(taskManagerAsyncService, Mockito.times(2)).getTaskFromTimestamp(timestamp);
+    }
+}
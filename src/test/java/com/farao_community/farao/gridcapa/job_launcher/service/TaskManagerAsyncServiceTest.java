@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.CircuitBreakerConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.RetryConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class TaskManagerAsyncServiceTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+    private static final String TASK_JSON = "{\"id\":\"1fdda469-53e9-4d63-a533-b935cffdd2f6\",\"timestamp\":\"2024-09-13T09:30Z\",\"status\":\"READY\"}";
+    private static final String RUN_ID = "6b1f7c2e-3d4a-4b5c-9d8e-7f6a5b4c3d2e";
+    private static final String PENDING_TASK_JSON = TASK_JSON.replace("READY", "PENDING")
+            .replace("}", ",\"runHistory\":[{\"id\":\"" + RUN_ID + "\",\"executionDate\":\"2024-09-13T09:31Z\",\"inputs\":[]}]}");
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private Scheduler launchScheduler = Schedulers.immediate();
+    private boolean combinedLaunch;
+
+    private TaskManagerAsyncService serviceRespondingWith(final Function<Integer, Mono<ClientResponse>> responses) {
+        final JobLauncherConfigurationProperties properties = new JobLauncherConfigurationProperties(
+                new JobLauncherConfigurationProperties.UrlProperties("http://task-manager/tasks/", "http://task-manager/tasks/businessdate/", "http://interruption-server/", null),
+                null,
+                List.of(),
+                null,
+                null,
+                null, null, null, combinedLaunch, null, null, null, null, null, null);
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return responses.apply(requests.size());
+                })
+                .build();
+        return new TaskManagerAsyncService(properties, webClient, new RetryConfiguration().jobLauncherRetrySpec(10, 2, 0.5, 3), meterRegistry, circuitBreakerRegistry, new LaunchMetrics(meterRegistry), launchScheduler);
+    }
+
+    private static Mono<ClientResponse> ok(final String json) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build());
+    }
+
+    private static Mono<ClientResponse> connectionRefused() {
+        return Mono.error(new WebClientRequestException(new IOException("Connection refused"), HttpMethod.GET, URI.create("http://task-manager"), HttpHeaders.EMPTY));
+    }
+
+    @Test
+    void getTaskFromTimestampNoRetry() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+
+        final TaskDto result = service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(result.getStatus()).isEqualTo(TaskStatus.READY);
+        Assertions.assertThat(requests).hasSize(1);
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://task-manager/tasks/" + TIMESTAMP);
+    }
+
+    @Test
+    void responsesArePublishedOnLaunchScheduler() {
+        launchScheduler = Schedulers.newSingle("launch-test");
+        try {
+            final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+
+            final String thread = service.getTaskFromTimestamp(TIMESTAMP).map(taskDto -> Thread.currentThread().getName()).block();
+
+            Assertions.assertThat(thread).startsWith("launch-test");
+        } finally {
+            launchScheduler.dispose();
+        }
+    }
+
+    @Test
+    void getTaskFromTimestampRetryOnce() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> attempt == 1 ? connectionRefused() : ok(TASK_JSON));
+
+        final TaskDto result = service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void getTaskFromTimestampTaskNotFound() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+
+        final TaskDto result = service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(result).isNull();
+        Assertions.assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void getTaskFromTimestampAllRetry() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+
+        final TaskDto result = service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(result).isNull();
+        Assertions.assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void concurrentGetTaskFromTimestampShareOneRequest() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> attempt == 1
+                ? connectionRefused()
+                : ok(TASK_JSON).delayElement(Duration.ofMillis(100)));
+
+        final Tuple2<TaskDto, TaskDto> results = Mono.zip(service.getTaskFromTimestamp(TIMESTAMP), service.getTaskFromTimestamp(TIMESTAMP)).block();
+
+        Assertions.assertThat(results).isNotNull();
+        Assertions.assertThat(results.getT1()).isSameAs(results.getT2());
+        Assertions.assertThat(requests).hasSize(2);
+        Assertions.assertThat(meterRegistry.get("job.launcher.task.requests.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sequentialGetTaskFromTimestampAreNotCoalesced() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+
+        service.getTaskFromTimestamp(TIMESTAMP).block();
+        service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(requests).hasSize(2);
+        Assertions.assertThat(meterRegistry.get("job.launcher.task.requests.coalesced").counter().count()).isZero();
+    }
+
+    @Test
+    void getTasksFromBusinessDateNoRetry() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok("[" + TASK_JSON + "]"));
+
+        final TaskDto[] result = service.getTasksFromBusinessDate("2024-09-13").block();
+
+        Assertions.assertThat(result).hasSize(1);
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://task-manager/tasks/businessdate/2024-09-13");
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "get-tasks").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void addNewRunInTaskHistoryRetryOnce() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> attempt == 1 ? connectionRefused() : ok(TASK_JSON));
+
+        final TaskDto result = service.addNewRunInTaskHistory(TIMESTAMP, List.of()).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(requests).hasSize(2)
+                .allSatisfy(request -> Assertions.assertThat(request.method()).isEqualTo(HttpMethod.PUT));
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://task-manager/tasks/" + TIMESTAMP + "/runHistory");
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.retries").tag("request", "add-run").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "add-run").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void addNewRunWithPendingStatusInOneRequest() {
+        combinedLaunch = true;
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(PENDING_TASK_JSON));
+
+        final TaskManagerAsyncService.NewRun result = service.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(result.taskStatusUpdated()).isTrue();
+        Assertions.assertThat(result.runId()).hasToString(RUN_ID);
+        Assertions.assertThat(requests).hasSize(1);
+        Assertions.assertThat(requests.get(0).method()).isEqualTo(HttpMethod.PUT);
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://task-manager/tasks/" + TIMESTAMP + "/launch");
+    }
+
+    @Test
+    void addNewRunWithPendingStatusUsesTwoRequestsByDefault() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+
+        final TaskManagerAsyncService.NewRun result = service.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(result.taskStatusUpdated()).isTrue();
+        Assertions.assertThat(requests).extracting(request -> request.url().getPath()).containsExactly(
+                "/tasks/" + TIMESTAMP + "/runHistory",
+                "/tasks/" + TIMESTAMP + "/status");
+        Assertions.assertThat(meterRegistry.find("job.launcher.stage").tag("stage", "add-run-with-pending-status").timers()).isEmpty();
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "add-run").timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "update-status").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void addNewRunWithPendingStatusKeepsOneRequestWhenTaskIsNotFound() {
+        combinedLaunch = true;
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> attempt == 1
+                ? Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build())
+                : ok(PENDING_TASK_JSON));
+
+        final TaskManagerAsyncService.NewRun firstResult = service.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+        final TaskManagerAsyncService.NewRun secondResult = service.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+
+        Assertions.assertThat(firstResult).isNull();
+        Assertions.assertThat(secondResult).isNotNull();
+        Assertions.assertThat(requests).extracting(request -> request.url().getPath()).containsExactly(
+                "/tasks/" + TIMESTAMP + "/launch",
+                "/tasks/" + TIMESTAMP + "/launch");
+    }
+
+    @Test
+    void addNewRunWithPendingStatusAllRetry() {
+        combinedLaunch = true;
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> connectionRefused());
+
+        final TaskManagerAsyncService.NewRun result = service.addNewRunWithPendingStatus(TIMESTAMP, List.of()).block();
+
+        Assertions.assertThat(result).isNull();
+        Assertions.assertThat(requests).hasSize(3);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.retries").tag("request", "add-run-with-pending-status").counter().count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.fallbacks").tag("request", "add-run-with-pending-status").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "add-run-with-pending-status").tag("outcome", "empty").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void updateTaskStatusNoRetry() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+
+        final Boolean result = service.updateTaskStatus(TIMESTAMP, TaskStatus.PENDING).block();
+
+        Assertions.assertThat(result).isTrue();
+        Assertions.assertThat(requests.get(0).url()).hasToString("http://task-manager/tasks/" + TIMESTAMP + "/status?status=PENDING");
+    }
+
+    @Test
+    void updateTaskStatusAllRetry() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> connectionRefused());
+
+        final Boolean result = service.updateTaskStatus(TIMESTAMP, TaskStatus.PENDING).block();
+
+        Assertions.assertThat(result).isFalse();
+        Assertions.assertThat(requests).hasSize(3);
+        Assertions.assertThat(meterRegistry.get("job.launcher.request.fallbacks").tag("request", "update-status").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("job.launcher.stage").tag("stage", "update-status").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getTaskFromTimestampFailsFastWhenCircuitOpens() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .build());
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> connectionRefused());
+
+        final Mono<TaskDto> result = service.getTaskFromTimestamp(TIMESTAMP);
+
+        Assertions.assertThatExceptionOfType(CallNotPermittedException.class).isThrownBy(result::block);
+        Assertions.assertThat(requests).hasSize(2);
+        Assertions.assertThat(circuitBreakerRegistry.circuitBreaker("task-manager").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void taskNotFoundDoesNotOpenCircuit() {
+        circuitBreakerRegistry = new CircuitBreakerConfiguration().jobLauncherCircuitBreakerRegistry(new JobLauncherConfigurationProperties(
+                null, null, List.of(), null, new JobLauncherConfigurationProperties.CircuitBreakerProperties(50, 10, 5, Duration.ofSeconds(30), 2),
+                null, null, null, false, null, null, null, null, null, null));
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(service.getTaskFromTimestamp(TIMESTAMP).block()).isNull();
+        }
+
+        Assertions.assertThat(requests).hasSize(10);
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("task-manager");
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void updateTaskStatusDoesNotRequestWhenCircuitIsOpen() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+        circuitBreakerRegistry.circuitBreaker("task-manager").transitionToOpenState();
+
+        final Boolean result = service.updateTaskStatus(TIMESTAMP, TaskStatus.PENDING).block();
+
+        Assertions.assertThat(result).isFalse();
+        Assertions.assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void getTaskFromTimestampProbesWhenCircuitIsHalfOpen() {
+        final TaskManagerAsyncService service = serviceRespondingWith(attempt -> ok(TASK_JSON));
+        circuitBreakerRegistry.circuitBreaker("task-manager").transitionToOpenState();
+        circuitBreakerRegistry.circuitBreaker("task-manager").transitionToHalfOpenState();
+
+        final TaskDto result = service.getTaskFromTimestamp(TIMESTAMP).block();
+
+        Assertions.assertThat(result).isNotNull();
+        Assertions.assertThat(requests).hasSize(1);
+    }
+}
@@ -7,23 +7,27 @@
 package com.farao_community.farao.gridcapa.job_launcher.service;
 
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
-import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -31,87 +35,30 @@ import java.util.Optional;
 @SpringBootTest
 class TaskManagerServiceTest {
     @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
+    private RestTemplate restTemplate;
     @Autowired
     private TaskManagerService taskManagerService;
-
-    @Test
-    void getTaskFromTimestampNoRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final Optional<TaskDto> result = taskManagerService.getTaskFromTimestamp(timestamp);
-
-        Assertions.assertThat(result).contains(taskDto);
-    }
-
-    @Test
-    void getTaskFromTimestampTaskNotFound() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
-
-        final Optional<TaskDto> result = taskManagerService.getTaskFromTimestamp(timestamp);
-
-        Assertions.assertThat(result).isEmpty();
-    }
-
-    @Test
-    void getTaskFromTimestampRetryOnce() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class)
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final Optional<TaskDto> result = taskManagerService.getTaskFromTimestamp(timestamp);
-
-        Assertions.assertThat(result).contains(taskDto);
-    }
-
-    @Test
-    void getTaskFromTimestampAllRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class);
-
-        final Optional<TaskDto> result = taskManagerService.getTaskFromTimestamp(timestamp);
-
-        Assertions.assertThat(result).isEmpty();
-    }
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
 
     @Test
     void getTasksFromBusinessDateNoRetry() {
         final String date = "2024-09-13";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(date), Mockito.eq(TaskDto[].class)))
-                .thenReturn(new ResponseEntity<>(new TaskDto[]{taskDto}, HttpStatus.OK));
+        final UUID taskId = UUID.randomUUID();
+        mockBusinessDateResponse(date)
+                .thenAnswer(invocation -> extractFromResponse(invocation, HttpStatus.OK, "[{\"id\":\"" + taskId + "\",\"status\":\"READY\"}]"));
 
         final Optional<TaskDto[]> result = taskManagerService.getTasksFromBusinessDate(date);
 
         Assertions.assertThat(result).isNotEmpty();
-        Assertions.assertThat(result.get()).contains(taskDto);
+        Assertions.assertThat(result.get()).extracting(TaskDto::getId).containsExactly(taskId);
     }
 
     @Test
     void getTasksFromBusinessDateTaskNotFound() {
         final String date = "2024-09-13";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(date), Mockito.eq(TaskDto[].class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        mockBusinessDateResponse(date)
+                .thenAnswer(invocation -> extractFromResponse(invocation, HttpStatus.NOT_FOUND, ""));
 
         final Optional<TaskDto[]> result = taskManagerService.getTasksFromBusinessDate(date);
 
@@ -121,25 +68,20 @@ class TaskManagerServiceTest {
     @Test
     void getTasksFromBusinessDateRetryOnce() {
         final String date = "2024-09-13";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(date), Mockito.eq(TaskDto[].class)))
+        mockBusinessDateResponse(date)
                 .thenThrow(RestClientException.class)
-                .thenReturn(new ResponseEntity<>(new TaskDto[]{taskDto}, HttpStatus.OK));
+                .thenAnswer(invocation -> extractFromResponse(invocation, HttpStatus.OK, "[{\"status\":\"READY\"}]"));
 
         final Optional<TaskDto[]> result = taskManagerService.getTasksFromBusinessDate(date);
 
         Assertions.assertThat(result).isNotEmpty();
-        Assertions.assertThat(result.get()).contains(taskDto);
+        Assertions.assertThat(result.get()).hasSize(1);
     }
 
     @Test
     void getTasksFromBusinessDateAllRetry() {
         final String date = "2024-09-13";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.getForEntity(Mockito.contains(date), Mockito.eq(TaskDto[].class)))
+        mockBusinessDateResponse(date)
                 .thenThrow(RestClientException.class);
 
         final Optional<TaskDto[]> result = taskManagerService.getTasksFromBusinessDate(date);
@@ -148,112 +90,25 @@ class TaskManagerServiceTest {
     }
 
     @Test
-    void addNewRunInTaskHistoryNoRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final Optional<TaskDto> result = taskManagerService.addNewRunInTaskHistory(timestamp, List.of());
+    void getTasksFromBusinessDateWhenCircuitIsOpen() {
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("task-manager");
+        circuitBreaker.transitionToForcedOpenState();
+        try {
+            final Optional<TaskDto[]> result = taskManagerService.getTasksFromBusinessDate("2024-09-13");
 
-        Assertions.assertThat(result).contains(taskDto);
+            Assertions.assertThat(result).isEmpty();
+            Mockito.verifyNoInteractions(restTemplate);
+        } finally {
+            circuitBreaker.reset();
+        }
     }
 
-    @Test
-    void addNewRunInTaskHistoryTaskNotFound() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
-
-        final Optional<TaskDto> result = taskManagerService.addNewRunInTaskHistory(timestamp, List.of());
-
-        Assertions.assertThat(result).isEmpty();
+    private OngoingStubbing<TaskDto[]> mockBusinessDateResponse(final String date) {
+        return Mockito.when(restTemplate.execute(Mockito.contains(date), Mockito.eq(HttpMethod.GET), Mockito.isNull(), Mockito.<ResponseExtractor<TaskDto[]>>any()));
     }
 
-    @Test
-    void addNewRunInTaskHistoryRetryOnce() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class)
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final Optional<TaskDto> result = taskManagerService.addNewRunInTaskHistory(timestamp, List.of());
-
-        Assertions.assertThat(result).contains(taskDto);
-    }
-
-    @Test
-    void addNewRunInTaskHistoryAllRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class);
-
-        final Optional<TaskDto> result = taskManagerService.addNewRunInTaskHistory(timestamp, List.of());
-
-        Assertions.assertThat(result).isEmpty();
-    }
-
-    @Test
-    void updateTaskStatusNoRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final boolean result = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-
-        Assertions.assertThat(result).isTrue();
-    }
-
-    @Test
-    void updateTaskStatusTaskNotFound() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
-
-        final boolean result = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-
-        Assertions.assertThat(result).isFalse();
-    }
-
-    @Test
-    void updateTaskStatusRetryOnce() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        final TaskDto taskDto = Mockito.mock(TaskDto.class);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class)
-                .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
-
-        final boolean result = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-
-        Assertions.assertThat(result).isTrue();
-    }
-
-    @Test
-    void updateTaskStatusAllRetry() {
-        final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
-                .thenThrow(RestClientException.class);
-
-        final boolean result = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-
-        Assertions.assertThat(result).isFalse();
+    private static TaskDto[] extractFromResponse(final InvocationOnMock invocation, final HttpStatus status, final String body) throws IOException {
+        final ResponseExtractor<TaskDto[]> responseExtractor = invocation.getArgument(3);
+        return responseExtractor.extractData(new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status));
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compares checking whether the trigger files of a READY update were all used by a previous run by scanning the whole
+ * run history, as done before {@link UsedTriggerFilesIndex}, with the check through the index once the task history
+ * has been indexed, on synthetic tasks with long run histories. Run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriggerFilesCheckBenchmark {
+    private static final List<String> TRIGGER_FILETYPES = List.of("RAOREQUEST", "CRAC");
+    private static final int INPUTS_PER_RUN = 10;
+
+    @Param({"10", "100", "1000"})
+    private int runsCount;
+
+    private TaskDto taskDto;
+    private UsedTriggerFilesIndex index;
+
+    @Setup
+    public void setUp() {
+        final OffsetDateTime start = OffsetDateTime.parse("2024-09-13T00:00Z");
+        final List<ProcessRunDto> runHistory = IntStream.range(0, runsCount)
+                .mapToObj(run -> new ProcessRunDto(UUID.randomUUID(), start.plusMinutes(run), runInputs(start.plusMinutes(run))))
+                .toList();
+        taskDto = new TaskDto(UUID.randomUUID(), start, TaskStatus.READY, runHistory.getLast().getInputs(), List.of(), List.of(), List.of(), runHistory, List.of());
+        index = new UsedTriggerFilesIndex(new JobLauncherConfigurationProperties(null, null, TRIGGER_FILETYPES, null, null,
+                new JobLauncherConfigurationProperties.TriggerFilesIndexProperties(1000, Duration.ofDays(2)), null, null, false, null, null, null, null, null, null));
+        index.allTriggerFilesAlreadyUsed(taskDto, TRIGGER_FILETYPES);
+    }
+
+    private static List<ProcessFileDto> runInputs(final OffsetDateTime date) {
+        return Stream.concat(
+                        TRIGGER_FILETYPES.stream().map(fileType -> file(fileType, date)),
+                        IntStream.range(TRIGGER_FILETYPES.size(), INPUTS_PER_RUN).mapToObj(i -> file("FILETYPE" + i, date)))
+                .toList();
+    }
+
+    private static ProcessFileDto file(final String fileType, final OffsetDateTime date) {
+        return new ProcessFileDto("path/to/" + fileType + "/" + date, fileType, ProcessFileStatus.VALIDATED, fileType + "-" + date + ".xml", "docId", date);
+    }
+
+    @Benchmark
+    public boolean runHistoryScan() {
+        final List<ProcessFileDto> triggerFiles = taskDto.getInputs().stream()
+                .filter(f -> TRIGGER_FILETYPES.contains(f.getFileType()))
+                .toList();
+        final Set<ProcessFileDto> filesUsedInPreviousRun = taskDto.getRunHistory().stream()
+                .flatMap(run -> run.getInputs().stream())
+                .collect(Collectors.toSet());
+        return filesUsedInPreviousRun.containsAll(triggerFiles);
+    }
+
+    @Benchmark
+    public boolean usedTriggerFilesIndex() {
+        return index.allTriggerFilesAlreadyUsed(taskDto, TRIGGER_FILETYPES);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TriggerFilesCheckBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
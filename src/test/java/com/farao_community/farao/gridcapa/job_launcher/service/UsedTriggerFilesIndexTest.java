@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class UsedTriggerFilesIndexTest {
+    private static final List<String> TRIGGER_FILETYPES = List.of("RAOREQUEST", "CRAC");
+    private static final OffsetDateTime FILE_DATE = OffsetDateTime.parse("2024-09-13T08:00Z");
+
+    private final UsedTriggerFilesIndex index = new UsedTriggerFilesIndex(new JobLauncherConfigurationProperties(null, null, List.of(), null, null,
+            new JobLauncherConfigurationProperties.TriggerFilesIndexProperties(2, Duration.ofMinutes(1)), null, null, false, null, null, null, null, null, null));
+
+    private static ProcessFileDto file(final String fileType, final String filename, final OffsetDateTime lastModificationDate) {
+        return new ProcessFileDto("path/to/" + filename, fileType, ProcessFileStatus.VALIDATED, filename, "docId", lastModificationDate);
+    }
+
+    private static TaskDto task(final UUID id, final List<ProcessFileDto> inputs, final List<ProcessRunDto> runHistory) {
+        return new TaskDto(id, OffsetDateTime.parse("2024-09-13T09:30Z"), TaskStatus.READY, inputs, List.of(), List.of(), List.of(), runHistory, List.of());
+    }
+
+    private static ProcessRunDto run(final ProcessFileDto... inputs) {
+        return new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), List.of(inputs));
+    }
+
+    @Test
+    void triggerFilesUsedBySeveralRunsAreAllFound() {
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+        final ProcessFileDto raoRequest = file("RAOREQUEST", "raorequest.xml", FILE_DATE);
+
+        final boolean allUsed = index.allTriggerFilesAlreadyUsed(task(UUID.randomUUID(), List.of(crac, raoRequest), List.of(run(crac), run(raoRequest))), TRIGGER_FILETYPES);
+
+        Assertions.assertThat(allUsed).isTrue();
+    }
+
+    @Test
+    void nonTriggerFilesAreIgnored() {
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+        final ProcessFileDto cgm = file("CGM", "cgm.uct", FILE_DATE);
+
+        final boolean allUsed = index.allTriggerFilesAlreadyUsed(task(UUID.randomUUID(), List.of(crac, cgm), List.of(run(crac))), TRIGGER_FILETYPES);
+
+        Assertions.assertThat(allUsed).isTrue();
+    }
+
+    @Test
+    void newVersionOfATriggerFileIsNotUsed() {
+        final UUID taskId = UUID.randomUUID();
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+        final ProcessRunDto firstRun = run(crac);
+        Assertions.assertThat(index.allTriggerFilesAlreadyUsed(task(taskId, List.of(crac), List.of(firstRun)), TRIGGER_FILETYPES)).isTrue();
+
+        final ProcessFileDto newCrac = file("CRAC", "crac.xml", FILE_DATE.plusHours(1));
+
+        Assertions.assertThat(index.allTriggerFilesAlreadyUsed(task(taskId, List.of(newCrac), List.of(firstRun)), TRIGGER_FILETYPES)).isFalse();
+    }
+
+    @Test
+    void runsOfLaterUpdatesAreIndexed() {
+        final UUID taskId = UUID.randomUUID();
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+        final ProcessFileDto newCrac = file("CRAC", "crac.xml", FILE_DATE.plusHours(1));
+        final ProcessRunDto firstRun = run(crac);
+        Assertions.assertThat(index.allTriggerFilesAlreadyUsed(task(taskId, List.of(newCrac), List.of(firstRun)), TRIGGER_FILETYPES)).isFalse();
+
+        final boolean allUsed = index.allTriggerFilesAlreadyUsed(task(taskId, List.of(newCrac), List.of(firstRun, run(newCrac))), TRIGGER_FILETYPES);
+
+        Assertions.assertThat(allUsed).isTrue();
+    }
+
+    @Test
+    void taskWithoutIdIsCheckedWithoutBeingIndexed() {
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+
+        final boolean allUsed = index.allTriggerFilesAlreadyUsed(task(null, List.of(crac), List.of(run(crac))), TRIGGER_FILETYPES);
+
+        Assertions.assertThat(allUsed).isTrue();
+        Assertions.assertThat(index.indexedTasksCount()).isZero();
+    }
+
+    @Test
+    void indexIsBoundedByMaxSize() {
+        final ProcessFileDto crac = file("CRAC", "crac.xml", FILE_DATE);
+        for (int i = 0; i < 10; i++) {
+            index.allTriggerFilesAlreadyUsed(task(UUID.randomUUID(), List.of(crac), List.of(run(crac))), TRIGGER_FILETYPES);
+        }
+
+        Assertions.assertThat(index.indexedTasksCount()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa.job_launcher.service;
+
+import ch.qos.logback.classic.Logger;
+import com.farao_community.farao.gridcapa.job_launcher.CircuitBreakerConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.ExecutionConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.GridcapaConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.HttpClientConfiguration;
+import com.farao_community.farao.gridcapa.job_launcher.JobLauncherConfigurationProperties;
+import com.farao_community.farao.gridcapa.job_launcher.RetryConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of concurrent launches through {@link JobLauncherService#launchJob(String, List)}, each of a different
+ * timestamp, against a local task-manager answering after a fixed latency, as under load. Once task-manager answered,
+ * launches go on on the launch scheduler, where their run message is sent to a broker stand-in blocking for a fixed
+ * latency, as the binder does. The launch scheduler is made either of a bounded pool of platform threads or of a
+ * virtual thread per task, as with spring.threads.virtual.enabled. The connection pool is sized for every launch so
+ * that only threading differs. Run {@link #main(String[])} from the test classpath, with -Djdk.tracePinnedThreads=full
+ * to report pinned carriers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadsLaunchBenchmark {
+    private static final long TASK_MANAGER_LATENCY_MILLIS = 100;
+    private static final long BROKER_LATENCY_MILLIS = 5;
+    private static final OffsetDateTime FIRST_TIMESTAMP = OffsetDateTime.parse("2024-09-13T00:30Z");
+    private static final String TASK_JSON = """
+            {"id":"2f0e0a6e-1a2b-4c3d-8e9f-0a1b2c3d4e5f","timestamp":"2024-09-13T09:30Z","status":"READY",
+            "inputs":[],"availableInputs":[],"outputs":[],"processEvents":[],"parameters":[],
+            "runHistory":[{"id":"6b1f7c2e-3d4a-4b5c-9d8e-7f6a5b4c3d2e","executionDate":"2024-09-13T09:31Z","inputs":[]}]}
+            """;
+    private static final byte[] TASK = TASK_JSON.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LAUNCHED_TASK = TASK_JSON.replace("READY", "PENDING").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"200", "1000"})
+    private int concurrentLaunches;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private HttpServer taskManager;
+    private ConnectionProvider connectionProvider;
+    private Scheduler launchScheduler;
+    private JobLauncherService jobLauncherService;
+    private final AtomicLong runMessagesSent = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Logging each request would be measured instead of the launches
+        ((Logger) LoggerFactory.getLogger("com.farao_community.farao.gridcapa.job_launcher")).setLevel(ch.qos.logback.classic.Level.WARN);
+        // The server closes pooled connections beyond this limit, which the client would then reuse
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(2 * concurrentLaunches));
+        taskManager = HttpServer.create(new InetSocketAddress("localhost", 0), 2 * concurrentLaunches);
+        taskManager.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        taskManager.createContext("/", VirtualThreadsLaunchBenchmark::answerAfterLatency);
+        taskManager.start();
+        final String taskManagerUrl = "http://localhost:" + taskManager.getAddress().getPort() + "/tasks/";
+        final JobLauncherConfigurationProperties properties = new JobLauncherConfigurationProperties(
+                new JobLauncherConfigurationProperties.UrlProperties(taskManagerUrl, taskManagerUrl + "businessdate/", null,
+                        new JobLauncherConfigurationProperties.ConnectionProperties(concurrentLaunches, concurrentLaunches,
+                                Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(30))),
+                null, List.of(),
+                new JobLauncherConfigurationProperties.TaskCacheProperties(1000, Duration.ofSeconds(30)),
+                new JobLauncherConfigurationProperties.CircuitBreakerProperties(50, 10, 5, Duration.ofSeconds(30), 2),
+                null, new JobLauncherConfigurationProperties.RunMessageProperties(null), null, false, Duration.ofMinutes(4),
+                null, new JobLauncherConfigurationProperties.LaunchJournalProperties(false, Path.of("launch-journal"), false, DataSize.ofMegabytes(16),
+                        LaunchJournalReplayer.ReplayPolicy.COMPLETE), null, null, null);
+        final HttpClientConfiguration httpClientConfiguration = new HttpClientConfiguration();
+        connectionProvider = httpClientConfiguration.jobLauncherConnectionProvider(properties);
+        final WebClient webClient = httpClientConfiguration.jobLauncherWebClient(WebClient.builder(), connectionProvider, properties);
+        launchScheduler = new ExecutionConfiguration().launchScheduler("virtual".equals(threads));
+        jobLauncherService = jobLauncherService(properties, webClient);
+    }
+
+    private JobLauncherService jobLauncherService(final JobLauncherConfigurationProperties properties, final WebClient webClient) {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final LaunchMetrics launchMetrics = new LaunchMetrics(meterRegistry);
+        final RetryBackoffSpec retrySpec = new RetryConfiguration().jobLauncherRetrySpec(10, 2, 0.5, 3);
+        final CircuitBreakerRegistry circuitBreakerRegistry = new CircuitBreakerConfiguration().jobLauncherCircuitBreakerRegistry(properties);
+        final TaskManagerAsyncService taskManagerAsyncService = new TaskManagerAsyncService(properties, webClient, retrySpec, meterRegistry,
+                circuitBreakerRegistry, launchMetrics, launchScheduler);
+        final TaskDtoCache taskDtoCache = new TaskDtoCache(properties, taskManagerAsyncService);
+        final LaunchArbiter launchArbiter = new LaunchArbiter(LaunchArbiter.Policy.REJECT, Duration.ofMinutes(10), meterRegistry);
+        final GridcapaConfiguration gridcapaConfiguration = new GridcapaConfiguration();
+        ReflectionTestUtils.setField(gridcapaConfiguration, "version", "benchmark");
+        final JobLauncherCommonService jobLauncherCommonService = new JobLauncherCommonService(
+                LoggerFactory.getLogger("com.farao_community.farao.gridcapa.job_launcher.events"),
+                new MessagePublisher(brokerStandIn(), false, "none", Duration.ofSeconds(10), meterRegistry, launchScheduler),
+                new InterruptionServerService(properties, webClient, retrySpec, circuitBreakerRegistry, launchMetrics, launchScheduler),
+                taskManagerAsyncService,
+                taskDtoCache,
+                launchArbiter,
+                new LaunchJournal(properties, meterRegistry),
+                gridcapaConfiguration,
+                properties,
+                launchMetrics);
+        return new JobLauncherService(jobLauncherCommonService, LoggerFactory.getLogger("com.farao_community.farao.gridcapa.job_launcher.events"),
+                taskDtoCache, launchArbiter, properties);
+    }
+
+    private StreamBridge brokerStandIn() {
+        final StreamBridge streamBridge = Mockito.mock(StreamBridge.class, Mockito.withSettings().stubOnly());
+        Mockito.when(streamBridge.send(Mockito.anyString(), Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(BROKER_LATENCY_MILLIS);
+            if ("run-task".equals(invocation.getArgument(0))) {
+                runMessagesSent.incrementAndGet();
+            }
+            return true;
+        });
+        return streamBridge;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        launchScheduler.dispose();
+        connectionProvider.dispose();
+        taskManager.stop(0);
+    }
+
+    private static void answerAfterLatency(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(TASK_MANAGER_LATENCY_MILLIS);
+            final byte[] task = "GET".equals(exchange.getRequestMethod()) ? TASK : LAUNCHED_TASK;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, task.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Time to perform concurrentLaunches launches requested at once.
+     */
+    @Benchmark
+    public long concurrentLaunches() {
+        runMessagesSent.set(0);
+        Flux.range(0, concurrentLaunches)
+                .flatMap(i -> jobLauncherService.launchJob(FIRST_TIMESTAMP.plusHours(i).toString(), List.of()), concurrentLaunches)
+                .blockLast();
+        final long launched = runMessagesSent.get();
+        if (launched != concurrentLaunches) {
+            throw new IllegalStateException(launched + " launches out of " + concurrentLaunches);
+        }
+        return launched;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VirtualThreadsLaunchBenchmark.class.getSimpleName()).build()).run();
+    }
+}